@@ -0,0 +1,40 @@
+package pickleib.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import pickleib.interaction.ElementAcquisition;
+import records.Pair;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures css & xpath generation by element attributes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AttributeSelectorBenchmark {
+
+    @Param({"1", "4", "16"})
+    int attributeCount;
+
+    ElementAcquisition.PageObjectJson acquisition;
+    Pair<String, String>[] attributePairs;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup(){
+        acquisition = new ElementAcquisition.PageObjectJson();
+        attributePairs = new Pair[attributeCount];
+        for (int index = 0; index < attributeCount; index++)
+            attributePairs[index] = new Pair<>("data-attribute-" + index, "value-" + index);
+    }
+
+    @Benchmark
+    public String generateCss(){return acquisition.generateCssByAttributes(attributePairs);}
+
+    @Benchmark
+    public String generateXPath(){return acquisition.generateXPathByAttributes(attributePairs);}
+}
@@ -0,0 +1,76 @@
+package pickleib.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.openjdk.jmh.annotations.*;
+import pickleib.interaction.ElementAcquisition;
+import pickleib.utilities.JsonObjectRepository;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures element lookups & indexing on synthetic json object repositories
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ElementJsonBenchmark {
+
+    @Param({"10", "100"})
+    int pageCount;
+
+    @Param({"100", "1000"})
+    int elementCount;
+
+    JsonObject objectRepository;
+    JsonObject[] alternatingRepositories;
+    String lastPage;
+    String lastElement;
+    int turn;
+
+    @Setup
+    public void setup(){
+        objectRepository = repository(pageCount, elementCount);
+        alternatingRepositories = new JsonObject[]{objectRepository.deepCopy(), objectRepository.deepCopy()};
+        lastPage = "page" + (pageCount - 1);
+        lastElement = "element" + (elementCount - 1);
+    }
+
+    @Benchmark
+    public JsonObject getElementJson(){
+        return ElementAcquisition.PageObjectJson.getElementJson(lastElement, lastPage, objectRepository);
+    }
+
+    /**
+     * Alternates between two repository instances, so every call indexes a repository from scratch
+     */
+    @Benchmark
+    public JsonObjectRepository indexRepository(){
+        return JsonObjectRepository.of(alternatingRepositories[turn++ & 1]);
+    }
+
+    static JsonObject repository(int pageCount, int elementCount){
+        JsonArray pages = new JsonArray();
+        for (int pageIndex = 0; pageIndex < pageCount; pageIndex++) {
+            JsonArray elements = new JsonArray();
+            for (int elementIndex = 0; elementIndex < elementCount; elementIndex++) {
+                JsonObject element = new JsonObject();
+                element.addProperty("name", "element" + elementIndex);
+                element.addProperty("id", "element-" + pageIndex + "-" + elementIndex);
+                element.addProperty("cssSelector", "#page-" + pageIndex + " [data-element='" + elementIndex + "']");
+                element.addProperty("xpath", "//*[@data-element='" + elementIndex + "']");
+                elements.add(element);
+            }
+            JsonObject page = new JsonObject();
+            page.addProperty("name", "page" + pageIndex);
+            page.add("elements", elements);
+            pages.add(page);
+        }
+        JsonObject repository = new JsonObject();
+        repository.add("pages", pages);
+        return repository;
+    }
+}
@@ -0,0 +1,60 @@
+package pickleib.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openqa.selenium.WebElement;
+import pickleib.utilities.WebUtilities;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures element lookups from page objects of an object repository
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageObjectLookupBenchmark {
+
+    Lookup lookup;
+    ObjectRepository objectRepository;
+
+    @SuppressWarnings("unused")
+    static class LoginPage {
+        WebElement title, header, footer, logo, menu, search, usernameInput, passwordInput, rememberMe, forgotPassword;
+        WebElement loginButton, signUpButton, languageSelector, cookieBanner, acceptCookies, rejectCookies, help, contact;
+        List<WebElement> links, notifications;
+    }
+
+    @SuppressWarnings("unused")
+    static class ObjectRepository {
+        LoginPage homePage = new LoginPage();
+        LoginPage profilePage = new LoginPage();
+        LoginPage settingsPage = new LoginPage();
+        LoginPage loginPage = new LoginPage();
+    }
+
+    static class Lookup extends WebUtilities {
+        WebElement element(String elementFieldName, String pageName, Object objectRepository){
+            return getElementFromPage(elementFieldName, pageName, objectRepository);
+        }
+
+        List<WebElement> elements(String elementFieldName, String pageName, Object objectRepository){
+            return getElementsFromPage(elementFieldName, pageName, objectRepository);
+        }
+    }
+
+    @Setup
+    public void setup(){
+        lookup = new Lookup();
+        objectRepository = new ObjectRepository();
+    }
+
+    @Benchmark
+    public WebElement getElementFromPage(){return lookup.element("loginButton", "loginPage", objectRepository);}
+
+    @Benchmark
+    public List<WebElement> getElementsFromPage(){return lookup.elements("links", "loginPage", objectRepository);}
+}
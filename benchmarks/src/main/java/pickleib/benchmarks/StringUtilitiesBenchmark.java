@@ -0,0 +1,38 @@
+package pickleib.benchmarks;
+
+import context.ContextStore;
+import org.openjdk.jmh.annotations.*;
+import utils.StringUtilities;
+
+import java.util.concurrent.TimeUnit;
+
+import static utils.StringUtilities.Color.*;
+
+/**
+ * Measures context parsing & log formatting, used on every step
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringUtilitiesBenchmark {
+
+    StringUtilities strUtils;
+
+    @Setup
+    public void setup(){
+        strUtils = new StringUtilities();
+        ContextStore.put("username", "pickleib-user");
+    }
+
+    @Benchmark
+    public String contextCheckPlain(){return strUtils.contextCheck("Plain input text");}
+
+    @Benchmark
+    public String contextCheckContext(){return strUtils.contextCheck("CONTEXT-username");}
+
+    @Benchmark
+    public String highlighted(){return strUtils.highlighted(BLUE, "Acquiring element loginButton from the loginPage");}
+}
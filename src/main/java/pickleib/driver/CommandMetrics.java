@@ -0,0 +1,311 @@
+package pickleib.driver;
+
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import pickleib.exceptions.PickleibException;
+import utils.Printer;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remote command instrumentation, enabled by the command-metrics property
+ * Counts the commands each driver issues by type and records their latencies per Pickleib step
+ * (the outermost public ElementInteractions / ElementAcquisition method on the stack)
+ */
+public final class CommandMetrics {
+
+    private static final Printer log = new Printer(CommandMetrics.class);
+
+    /**
+     * Classes whose public methods are reported as steps
+     */
+    private static final Set<String> stepClasses = Set.of(
+            "pickleib.element.ElementInteractions",
+            "pickleib.element.ElementAcquisition$PageObjectModel",
+            "pickleib.element.ElementAcquisition$PageObjectJson",
+            "pickleib.interaction.ElementInteraction",
+            "pickleib.interaction.ElementAcquisition$PageObjectModel",
+            "pickleib.interaction.ElementAcquisition$PageObjectJson"
+    );
+
+    private static final StackWalker stackWalker = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    /**
+     * Public method names of each step class
+     */
+    private static final ClassValue<Set<String>> publicMethods = new ClassValue<>() {
+        @Override
+        protected Set<String> computeValue(Class<?> type) {
+            Set<String> names = new HashSet<>();
+            for (Method method : type.getDeclaredMethods())
+                if (Modifier.isPublic(method.getModifiers())) names.add(method.getName());
+            return names;
+        }
+    };
+
+    private static final Metrics global = new Metrics();
+    private static final Map<RemoteWebDriver, Metrics> driverMetrics = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private CommandMetrics(){}
+
+    /**
+     * Decorates the command executor of a given driver, so its commands are recorded
+     *
+     * @param driver target driver
+     * @return returns the instrumented driver
+     */
+    public static RemoteWebDriver instrument(RemoteWebDriver driver){
+        if (driver.getCommandExecutor() instanceof InstrumentedExecutor) return driver;
+        Metrics metrics = new Metrics();
+        try {
+            Method setCommandExecutor = RemoteWebDriver.class.getDeclaredMethod("setCommandExecutor", CommandExecutor.class);
+            setCommandExecutor.setAccessible(true);
+            setCommandExecutor.invoke(driver, new InstrumentedExecutor(driver.getCommandExecutor(), metrics));
+        }
+        catch (ReflectiveOperationException exception) {
+            throw new PickleibException("Could not instrument the driver: " + exception.getMessage());
+        }
+        driverMetrics.put(driver, metrics);
+        return driver;
+    }
+
+    /**
+     * Returns the metrics of every instrumented driver, since the last global reset
+     *
+     * @return returns the global metrics
+     */
+    public static Metrics global(){return global;}
+
+    /**
+     * Returns the metrics of a given driver
+     *
+     * @param driver target driver
+     * @return returns the driver metrics, or null if the driver is not instrumented
+     */
+    public static Metrics of(RemoteWebDriver driver){return driver == null ? null : driverMetrics.get(driver);}
+
+    /**
+     * Returns the metrics of the driver registered for the current thread
+     *
+     * @return returns the driver metrics, or null if the driver is not instrumented
+     */
+    public static Metrics current(){return of(Driver.getDriver());}
+
+    /**
+     * Logs the command summary of a given driver (scenario) and resets its metrics
+     *
+     * @param driver target driver
+     */
+    public static void logSummary(RemoteWebDriver driver){
+        Metrics metrics = of(driver);
+        if (metrics == null || metrics.totalCommands() == 0) return;
+        log.new Info("Remote command summary:\n" + metrics.summary());
+        metrics.reset();
+    }
+
+    /**
+     * Resolves the step a command is issued by
+     *
+     * @return returns the step name as ClassName.methodName, or "(other)" if no step is on the stack
+     */
+    private static String currentStep(){
+        return stackWalker.walk(frames -> frames
+                .filter(frame -> stepClasses.contains(frame.getClassName()) &&
+                        publicMethods.get(frame.getDeclaringClass()).contains(frame.getMethodName()))
+                .reduce((inner, outer) -> outer)
+                .map(frame -> frame.getDeclaringClass().getSimpleName() + "." + frame.getMethodName())
+                .orElse("(other)")
+        );
+    }
+
+    /**
+     * Command executor that records the commands of a delegate executor
+     */
+    private static final class InstrumentedExecutor implements CommandExecutor {
+        private final CommandExecutor delegate;
+        private final Metrics metrics;
+
+        InstrumentedExecutor(CommandExecutor delegate, Metrics metrics){
+            this.delegate = delegate;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public Response execute(Command command) throws IOException {
+            String step = currentStep();
+            long start = System.nanoTime();
+            try {return delegate.execute(command);}
+            finally {
+                long duration = System.nanoTime() - start;
+                metrics.record(step, command.getName(), duration);
+                global.record(step, command.getName(), duration);
+            }
+        }
+    }
+
+    /**
+     * Command counts & latencies, by command type and by step
+     */
+    public static final class Metrics {
+        private final Map<String, LongAdder> commandCounts = new ConcurrentHashMap<>();
+        private final Map<String, Map<String, LongAdder>> stepCommandCounts = new ConcurrentHashMap<>();
+        private final Map<String, Histogram> stepLatencies = new ConcurrentHashMap<>();
+
+        void record(String step, String command, long nanos){
+            commandCounts.computeIfAbsent(command, key -> new LongAdder()).increment();
+            stepCommandCounts.computeIfAbsent(step, key -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(command, key -> new LongAdder())
+                    .increment();
+            stepLatencies.computeIfAbsent(step, key -> new Histogram()).record(nanos);
+        }
+
+        /**
+         * @return returns the number of commands issued, by command type
+         */
+        public Map<String, Long> commandCounts(){return sums(commandCounts);}
+
+        /**
+         * @return returns the number of commands issued by each step, by command type
+         */
+        public Map<String, Map<String, Long>> stepCommandCounts(){
+            Map<String, Map<String, Long>> counts = new TreeMap<>();
+            stepCommandCounts.forEach((step, commands) -> counts.put(step, sums(commands)));
+            return counts;
+        }
+
+        /**
+         * @return returns the command latency histogram of each step
+         */
+        public Map<String, Histogram> stepLatencies(){return new TreeMap<>(stepLatencies);}
+
+        /**
+         * @return returns the total number of commands issued
+         */
+        public long totalCommands(){
+            return commandCounts.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+
+        /**
+         * Resets every count & histogram
+         */
+        public void reset(){
+            commandCounts.clear();
+            stepCommandCounts.clear();
+            stepLatencies.clear();
+        }
+
+        /**
+         * Summarizes the commands of each step, most expensive steps first
+         *
+         * @return returns the summary
+         */
+        public String summary(){
+            StringBuilder summary = new StringBuilder();
+            Map<String, Map<String, Long>> counts = stepCommandCounts();
+            stepLatencies.entrySet().stream()
+                    .sorted(Comparator.comparingLong((Map.Entry<String, Histogram> entry) -> entry.getValue().totalNanos()).reversed())
+                    .forEach(entry -> {
+                        Histogram histogram = entry.getValue();
+                        summary.append(String.format(
+                                "%s: %d commands, %.1f ms total, %.1f ms mean, p95 %s, max %.1f ms %s%n",
+                                entry.getKey(),
+                                histogram.count(),
+                                histogram.totalNanos() / 1e6,
+                                histogram.mean(),
+                                histogram.percentileLabel(0.95),
+                                histogram.max(),
+                                counts.getOrDefault(entry.getKey(), Map.of())
+                        ));
+                    });
+            return summary.toString();
+        }
+
+        private static Map<String, Long> sums(Map<String, LongAdder> adders){
+            Map<String, Long> sums = new TreeMap<>();
+            adders.forEach((key, adder) -> sums.put(key, adder.sum()));
+            return sums;
+        }
+    }
+
+    /**
+     * Latency histogram with fixed, exponentially growing millisecond buckets
+     */
+    public static final class Histogram {
+        private static final long[] bounds = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000};
+
+        private final LongAdder[] buckets = new LongAdder[bounds.length + 1];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        Histogram(){
+            for (int index = 0; index < buckets.length; index++) buckets[index] = new LongAdder();
+        }
+
+        void record(long nanos){
+            long millis = nanos / 1_000_000;
+            int index = 0;
+            while (index < bounds.length && millis >= bounds[index]) index++;
+            buckets[index].increment();
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        public long count(){return count.sum();}
+
+        public long totalNanos(){return totalNanos.sum();}
+
+        /**
+         * @return returns the mean latency (ms)
+         */
+        public double mean(){
+            long samples = count();
+            return samples == 0 ? 0 : totalNanos() / 1e6 / samples;
+        }
+
+        /**
+         * @return returns the max latency (ms)
+         */
+        public double max(){return maxNanos.get() / 1e6;}
+
+        /**
+         * Returns the sample count of each bucket
+         *
+         * @return returns the counts, by bucket label (e.g. "<5ms", ">=10000ms")
+         */
+        public Map<String, Long> buckets(){
+            Map<String, Long> counts = new LinkedHashMap<>();
+            for (int index = 0; index < buckets.length; index++) counts.put(label(index), buckets[index].sum());
+            return counts;
+        }
+
+        /**
+         * Returns the bucket a given percentile falls in
+         *
+         * @param percentile target percentile (0 - 1)
+         * @return returns the bucket label
+         */
+        public String percentileLabel(double percentile){
+            long target = (long) Math.ceil(count() * percentile);
+            long cumulative = 0;
+            for (int index = 0; index < buckets.length; index++) {
+                cumulative += buckets[index].sum();
+                if (cumulative >= target && cumulative > 0) return label(index);
+            }
+            return label(0);
+        }
+
+        private static String label(int index){
+            return index < bounds.length ? "<" + bounds[index] + "ms" : ">=" + bounds[bounds.length - 1] + "ms";
+        }
+    }
+}
@@ -8,28 +8,52 @@ import org.openqa.selenium.devtools.v85.network.Network;
 import org.openqa.selenium.devtools.v85.network.model.Headers;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import pickleib.exceptions.PickleibException;
+import pickleib.utilities.ScreenCaptureUtility;
 import utils.Printer;
 import utils.PropertiesReader;
+import utils.PropertyUtility;
 import utils.StringUtilities;
 import java.time.Duration;
-import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 public class Driver extends WebComponent {
 
 	/**
-	 * RemoteWebDriver instance
+	 * RemoteWebDriver instance, holds the most recently registered (or directly assigned) driver
+	 * (used by threads that have no driver of their own, as long as at most one thread has a registered driver)
 	 */
 	public static RemoteWebDriver driver;
 
 	/**
-	 * WebDriverWait instance
+	 * WebDriverWait instance, holds the most recently registered wait
 	 */
 	public static WebDriverWait wait;
 
+	/**
+	 * Drivers registered for the current thread
+	 */
+	private static final ThreadLocal<RemoteWebDriver> threadDriver = new ThreadLocal<>();
+
+	/**
+	 * Waits registered for the current thread
+	 */
+	private static final ThreadLocal<WebDriverWait> threadWait = new ThreadLocal<>();
+
+	/**
+	 * Element timeouts (ms) set for the current thread, overriding the element-timeout property
+	 */
+	private static final ThreadLocal<Long> threadElementTimeout = new ThreadLocal<>();
+
+	/**
+	 * Registered drivers by thread, used to detect when the shared driver would cross sessions
+	 */
+	private static final Map<Thread, RemoteWebDriver> registrations = new ConcurrentHashMap<>();
+
 	static PropertiesReader reader = new PropertiesReader("properties-from-pom.properties");
 	static StringUtilities strUtils = new StringUtilities();
 	static Printer log = new Printer(Driver.class);
@@ -41,8 +65,7 @@ public class Driver extends WebComponent {
 	 */
 	public static void initialize(DriverFactory.DriverType driverType){
 		log.new Info("Initializing pickleib.driver...");
-		driver = DriverFactory.getDriver(driverType);
-		wait = new WebDriverWait(driver, Duration.of(DriverFactory.driverTimeout, ChronoUnit.SECONDS));
+		setDriver(DriverFactory.acquireDriver(driverType));
 	}
 
 	/**
@@ -59,7 +82,7 @@ public class Driver extends WebComponent {
 	@Deprecated(since = "1.5.6")
 	public static void initialize(String id, String password, DriverFactory.DriverType driverType){ //Only works with chrome!
 		initialize(driverType);
-		DevTools dev = ((ChromeDriver) driver).getDevTools();
+		DevTools dev = ((ChromeDriver) getDriver()).getDevTools();
 		dev.createSession();
 		dev.send(Network.enable(Optional.empty(), Optional.empty(), Optional.empty()));
 		Map<String, Object> map = new HashMap<>();
@@ -68,10 +91,135 @@ public class Driver extends WebComponent {
 	}
 
 	/**
-	 * Quits the driver session
+	 * Registers a given driver for the current thread
+	 * (each thread, or scenario running on it, resolves its own driver through getDriver())
+	 *
+	 * @param remoteDriver target driver
+	 */
+	public static void setDriver(RemoteWebDriver remoteDriver){
+		WebDriverWait remoteWait = new WebDriverWait(remoteDriver, DriverConfiguration.current().driverTimeout());
+		threadDriver.set(remoteDriver);
+		threadWait.set(remoteWait);
+		registrations.put(Thread.currentThread(), remoteDriver);
+		driver = remoteDriver;
+		wait = remoteWait;
+	}
+
+	/**
+	 * Acquires the driver registered for the current thread
+	 * Threads without a driver of their own (e.g. an @AfterAll hook) share Driver.driver,
+	 * unless several threads have registered drivers, in which case the shared driver would cross sessions
+	 *
+	 * @return returns the thread driver, or the shared driver if the thread has none
+	 * @throws PickleibException if the thread has no driver while several threads have registered drivers
+	 */
+	public static RemoteWebDriver getDriver(){
+		RemoteWebDriver remoteDriver = threadDriver.get();
+		if (remoteDriver != null) return remoteDriver;
+		verifySharing();
+		return driver;
+	}
+
+	/**
+	 * Acquires the wait registered for the current thread
+	 *
+	 * @return returns the thread wait, or the shared wait if the thread has none (see getDriver())
+	 * @throws PickleibException if the thread has no wait while several threads have registered drivers
+	 */
+	public static WebDriverWait getWait(){
+		WebDriverWait remoteWait = threadWait.get();
+		if (remoteWait != null) return remoteWait;
+		verifySharing();
+		return wait;
+	}
+
+	/**
+	 * Verifies that the shared driver can be used by a thread without a driver of its own
+	 */
+	private static void verifySharing(){
+		if (registrations.size() <= 1) return;
+		registrations.keySet().removeIf(thread -> !thread.isAlive());
+		if (registrations.size() > 1)
+			throw new PickleibException(
+					"No driver is registered for " + Thread.currentThread().getName() + " while " + registrations.size() +
+							" threads have their own drivers, register a driver for the thread (see Driver.setDriver())!"
+			);
+	}
+
+	/**
+	 * Sets the element timeout of the current thread, interaction classes created afterwards on the thread use it
+	 *
+	 * @param elementTimeout element timeout, the element-timeout property is used if null
+	 */
+	public static void setElementTimeout(Duration elementTimeout){
+		if (elementTimeout == null) threadElementTimeout.remove();
+		else threadElementTimeout.set(elementTimeout.toMillis());
+	}
+
+	/**
+	 * Acquires the element timeout of the current thread
+	 *
+	 * @return returns the element timeout (ms) set for the thread, or the element-timeout property if there is none
+	 */
+	public static long getElementTimeout(){
+		Long elementTimeout = threadElementTimeout.get();
+		if (elementTimeout != null) return elementTimeout;
+		return Long.parseLong(PropertyUtility.properties.getProperty("element-timeout", "15000"));
+	}
+
+	/**
+	 * Removes the driver registration of the current thread
+	 * (the drivers of other threads are never returned, even if the current thread has no driver)
+	 *
+	 * @return returns the driver that was registered for the current thread, or null if there is none
+	 */
+	public static RemoteWebDriver unregister(){
+		RemoteWebDriver remoteDriver = threadDriver.get();
+		WebDriverWait remoteWait = threadWait.get();
+		threadDriver.remove();
+		threadWait.remove();
+		registrations.remove(Thread.currentThread());
+		if (remoteDriver != null && remoteDriver == driver) driver = null;
+		if (remoteWait != null && remoteWait == wait) wait = null;
+		return remoteDriver;
+	}
+
+	/**
+	 * Quits the driver session of the current thread (returns it to the session pool instead, if it is a pooled session)
+	 * If the thread has no driver of its own, the shared driver (see getDriver()) is quit
 	 */
 	public static void terminate(){
 		log.new Info("Terminating driver...");
-		driver.quit();
+		RemoteWebDriver remoteDriver = unregister();
+		if (remoteDriver != null) {
+			terminate(remoteDriver);
+			return;
+		}
+		try {verifySharing();}
+		catch (PickleibException exception) {
+			log.new Warning(exception.getMessage() + " No driver is terminated.");
+			return;
+		}
+		RemoteWebDriver sharedDriver = driver;
+		if (sharedDriver == null) return;
+		log.new Warning("No driver is registered for " + Thread.currentThread().getName() + ", terminating the shared driver.");
+		driver = null;
+		wait = null;
+		registrations.values().removeIf(registered -> registered == sharedDriver);
+		terminate(sharedDriver);
+	}
+
+	/**
+	 * Quits a given driver session (returns it to the session pool instead, if it is a pooled session)
+	 * Logs the remote command summary of the session, if command metrics are enabled
+	 * Discards the frames recorded for the session
+	 *
+	 * @param remoteDriver target driver, it is unregistered if it is the driver of the current thread
+	 */
+	public static void terminate(RemoteWebDriver remoteDriver){
+		if (remoteDriver == threadDriver.get()) unregister();
+		CommandMetrics.logSummary(remoteDriver);
+		ScreenCaptureUtility.clearFrames(remoteDriver);
+		DriverFactory.releaseDriver(remoteDriver);
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,205 @@
+package pickleib.driver;
+
+import org.openqa.selenium.PageLoadStrategy;
+import pickleib.exceptions.PickleibException;
+import utils.Printer;
+import utils.PropertyUtility;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Immutable, validated snapshot of the driver properties
+ * <p>
+ * The snapshot of PropertyUtility.properties is parsed on first use and re-parsed on reload() (see current()),
+ * sessions that need different options derive a copy through override(), which also serves as the session pool key.
+ * Boolean properties are read like Boolean.parseBoolean(), values other than "true" or "false" are warned about.
+ *
+ * @param useSeleniumGrid Selenium Grid is used if true (selenium-grid)
+ * @param hubUrl Selenium Grid hub url (hub-url)
+ * @param frameWidth window width (frame-width)
+ * @param frameHeight window height (frame-height)
+ * @param driverTimeout implicit wait & driver wait duration (driver-timeout, ms)
+ * @param headless session runs headless if true (headless)
+ * @param deleteCookies cookies are deleted if true (delete-cookies)
+ * @param maximise maximises session window if true (driver-maximize)
+ * @param insecureLocalHost enables insecure local host if true (insecure-localhost)
+ * @param loadStrategy page load strategy (load-strategy)
+ * @param disableNotifications disables browser notifications if true (disable-notifications)
+ * @param allowRemoteOrigin allows remote origins if true (allow-remote-origin)
+ * @param useWDM WebDriverManager is used if true (web-driver-manager)
+ * @param seleniumLogLevel selenium log level (selenium-log-level)
+ * @param commandMetrics remote commands are instrumented if true (command-metrics)
+ * @param poolSize number of idle sessions kept warm per session key, pooling is disabled if zero (driver-pool-size)
+ * @param poolMaxReuse number of times a pooled session is handed out before it is quit (driver-pool-max-reuse)
+ * @param poolIdleTimeout duration a pooled session can stay idle before it is evicted (driver-pool-idle-timeout, ms)
+ * @param networkProfile blocked & allowed requests (blocked-urls, blocked-resource-types, allowed-urls)
+ */
+public record DriverConfiguration(
+        boolean useSeleniumGrid,
+        String hubUrl,
+        int frameWidth,
+        int frameHeight,
+        Duration driverTimeout,
+        boolean headless,
+        boolean deleteCookies,
+        boolean maximise,
+        boolean insecureLocalHost,
+        PageLoadStrategy loadStrategy,
+        boolean disableNotifications,
+        boolean allowRemoteOrigin,
+        boolean useWDM,
+        String seleniumLogLevel,
+        boolean commandMetrics,
+        int poolSize,
+        int poolMaxReuse,
+        Duration poolIdleTimeout,
+        NetworkProfile networkProfile) {
+
+    private static final Printer log = new Printer(DriverConfiguration.class);
+
+    private static volatile DriverConfiguration current;
+
+    public DriverConfiguration {
+        if (useSeleniumGrid && (hubUrl == null || hubUrl.isBlank()))
+            throw new PickleibException("The hub-url property is required when selenium-grid is true!");
+        if (frameWidth <= 0 || frameHeight <= 0)
+            throw new PickleibException("Frame size must be positive: " + frameWidth + "x" + frameHeight);
+        if (driverTimeout == null || driverTimeout.isNegative())
+            throw new PickleibException("Driver timeout must not be negative: " + driverTimeout);
+        if (loadStrategy == null) throw new PickleibException("Page load strategy is required!");
+        if (poolSize < 0) throw new PickleibException("Driver pool size must not be negative: " + poolSize);
+        if (poolMaxReuse < 1) throw new PickleibException("Driver pool max reuse must be positive: " + poolMaxReuse);
+        if (poolIdleTimeout == null || poolIdleTimeout.isNegative() || poolIdleTimeout.isZero())
+            throw new PickleibException("Driver pool idle timeout must be positive: " + poolIdleTimeout);
+        if (networkProfile == null) throw new PickleibException("Network profile is required!");
+    }
+
+    /**
+     * Returns the configuration parsed from PropertyUtility.properties
+     * The properties are parsed on first use, call reload() after changing them at runtime
+     *
+     * @return returns the current configuration
+     */
+    public static DriverConfiguration current(){
+        DriverConfiguration configuration = current;
+        if (configuration == null) {
+            synchronized (DriverConfiguration.class) {
+                configuration = current;
+                if (configuration == null) current = configuration = fromProperties(PropertyUtility.properties);
+            }
+        }
+        return configuration;
+    }
+
+    /**
+     * Re-parses PropertyUtility.properties (e.g. after they are reloaded or modified at runtime),
+     * the drivers created afterwards use the new configuration
+     *
+     * @return returns the reloaded configuration
+     */
+    public static synchronized DriverConfiguration reload(){
+        current = fromProperties(PropertyUtility.properties);
+        return current;
+    }
+
+    /**
+     * Parses the driver properties of a given property set
+     *
+     * @param properties source properties
+     * @return returns the configuration
+     */
+    public static DriverConfiguration fromProperties(Properties properties){
+        return new DriverConfiguration(
+                bool(properties, "selenium-grid", "false"),
+                properties.getProperty("hub-url", ""),
+                integer(properties, "frame-width", "1920"),
+                integer(properties, "frame-height", "1080"),
+                Duration.ofMillis(integer(properties, "driver-timeout", "15000")),
+                bool(properties, "headless", "false"),
+                bool(properties, "delete-cookies", "false"),
+                bool(properties, "driver-maximize", "false"),
+                bool(properties, "insecure-localhost", "false"),
+                loadStrategy(properties.getProperty("load-strategy", "normal")),
+                bool(properties, "disable-notifications", "true"),
+                bool(properties, "allow-remote-origin", "true"),
+                bool(properties, "web-driver-manager", "false"),
+                properties.getProperty("selenium-log-level", "off"),
+                bool(properties, "command-metrics", "false"),
+                integer(properties, "driver-pool-size", "0"),
+                integer(properties, "driver-pool-max-reuse", "10"),
+                Duration.ofMillis(integer(properties, "driver-pool-idle-timeout", "300000")),
+                NetworkProfile.fromProperties(properties)
+        );
+    }
+
+    /**
+     * Derives a configuration with given property overrides, e.g. Map.of("headless", "true")
+     *
+     * @param overrides property values by property key
+     * @return returns the derived configuration
+     */
+    public DriverConfiguration override(Map<String, String> overrides){
+        Properties properties = toProperties();
+        overrides.forEach(properties::setProperty);
+        return fromProperties(properties);
+    }
+
+    /**
+     * Derives a configuration with a given property override
+     *
+     * @param key property key
+     * @param value property value
+     * @return returns the derived configuration
+     */
+    public DriverConfiguration override(String key, String value){return override(Map.of(key, value));}
+
+    /**
+     * @return returns the configuration as driver properties
+     */
+    public Properties toProperties(){
+        Properties properties = new Properties();
+        properties.setProperty("selenium-grid", String.valueOf(useSeleniumGrid));
+        properties.setProperty("hub-url", hubUrl);
+        properties.setProperty("frame-width", String.valueOf(frameWidth));
+        properties.setProperty("frame-height", String.valueOf(frameHeight));
+        properties.setProperty("driver-timeout", String.valueOf(driverTimeout.toMillis()));
+        properties.setProperty("headless", String.valueOf(headless));
+        properties.setProperty("delete-cookies", String.valueOf(deleteCookies));
+        properties.setProperty("driver-maximize", String.valueOf(maximise));
+        properties.setProperty("insecure-localhost", String.valueOf(insecureLocalHost));
+        properties.setProperty("load-strategy", loadStrategy.toString());
+        properties.setProperty("disable-notifications", String.valueOf(disableNotifications));
+        properties.setProperty("allow-remote-origin", String.valueOf(allowRemoteOrigin));
+        properties.setProperty("web-driver-manager", String.valueOf(useWDM));
+        properties.setProperty("selenium-log-level", seleniumLogLevel);
+        properties.setProperty("command-metrics", String.valueOf(commandMetrics));
+        properties.setProperty("driver-pool-size", String.valueOf(poolSize));
+        properties.setProperty("driver-pool-max-reuse", String.valueOf(poolMaxReuse));
+        properties.setProperty("driver-pool-idle-timeout", String.valueOf(poolIdleTimeout.toMillis()));
+        networkProfile.toProperties().forEach(properties::setProperty);
+        return properties;
+    }
+
+    private static boolean bool(Properties properties, String key, String defaultValue){
+        String value = properties.getProperty(key, defaultValue).trim();
+        if (!value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false"))
+            log.new Warning("The " + key + " property should be true or false, '" + value + "' is read as false.");
+        return Boolean.parseBoolean(value);
+    }
+
+    private static int integer(Properties properties, String key, String defaultValue){
+        String value = properties.getProperty(key, defaultValue).trim();
+        try {return Integer.parseInt(value);}
+        catch (NumberFormatException exception) {
+            throw new PickleibException("The " + key + " property must be a number: " + value);
+        }
+    }
+
+    private static PageLoadStrategy loadStrategy(String value){
+        PageLoadStrategy strategy = PageLoadStrategy.fromString(value.trim().toLowerCase());
+        if (strategy == null) throw new PickleibException("Unknown load-strategy: " + value);
+        return strategy;
+    }
+}
@@ -10,6 +10,7 @@ import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.safari.SafariDriver;
 import org.openqa.selenium.safari.SafariOptions;
+import pickleib.exceptions.PickleibException;
 import utils.LogUtilities;
 import utils.Printer;
 import utils.PropertyUtility;
@@ -27,64 +28,66 @@ public class DriverFactory {
     static Properties properties = PropertyUtility.properties;
 
     /**
-     * determines frameWidth value
+     * pre-launched session pool, enabled when driver-pool-size is greater than zero
      */
-    static int frameWidth;
+    static volatile DriverPool pool;
 
     /**
-     * determines frameHeight value
-     */
-    static int frameHeight;
-
-    /**
-     * session runs headless if true
-     */
-    static boolean headless;
-
-    /**
-     * maximises session window if true
-     */
-    static boolean maximise;
-
-    /**
-     * determines driverTimeout duration
-     */
-    static long driverTimeout;
-
-    /**
-     * cookies are deleted if true
-     */
-    static boolean deleteCookies;
-
-    /**
-     * Selenium Grid is used if true
-     */
-    static boolean useSeleniumGrid;
-
-    /**
-     * enables insecure local host if true
-     */
-    static boolean insecureLocalHost;
-
-    /**
-     * disables browser notifications if true
+     * Hands out a session from the session pool if driver-pool-size is greater than zero,
+     * initializes a new driver otherwise
+     *
+     * @param driverType driver type
+     * @return returns driver
      */
-    static boolean disableNotifications;
+    public static RemoteWebDriver acquireDriver(DriverType driverType){
+        return acquireDriver(driverType, DriverConfiguration.current());
+    }
 
     /**
-     * determines page load strategy
+     * Hands out a session with a given configuration from the session pool if driver-pool-size is greater than zero,
+     * initializes a new driver otherwise
+     *
+     * @param driverType driver type
+     * @param configuration driver configuration
+     * @return returns driver
      */
-    static PageLoadStrategy loadStrategy;
+    public static RemoteWebDriver acquireDriver(DriverType driverType, DriverConfiguration configuration){
+        if (driverType == null) driverType = DriverType.fromString(properties.getProperty("browser", "chrome"));
+        DriverPool driverPool = getPool();
+        if (driverPool == null) return getDriver(driverType, configuration);
+        return driverPool.acquire(new DriverPool.SessionKey(driverType, configuration));
+    }
 
     /**
-     * determines usage of web driver manager
+     * Returns a pooled session to the session pool, quits the driver if it is not a pooled session
+     *
+     * @param driver target driver
      */
-    static Boolean useWDM;
+    public static void releaseDriver(RemoteWebDriver driver){
+        if (pool == null || !pool.release(driver)) driver.quit();
+    }
 
     /**
-     * determines usage of web driver manager
+     * Creates the session pool on first use
+     *
+     * @return returns the session pool, or null if pooling is disabled
      */
-    static Boolean allowRemoteOrigin;
+    static DriverPool getPool(){
+        DriverPool driverPool = pool;
+        if (driverPool != null) return driverPool;
+        DriverConfiguration configuration = DriverConfiguration.current();
+        if (configuration.poolSize() == 0) return null;
+        synchronized (DriverFactory.class) {
+            if (pool == null)
+                pool = new DriverPool(
+                        configuration.poolSize(),
+                        configuration.poolMaxReuse(),
+                        configuration.poolIdleTimeout().toMillis(),
+                        key -> getDriver(key.driverType(), key.configuration())
+                );
+            return pool;
+        }
+    }
 
     /**
      * Initializes and returns a driver of specified type
@@ -92,40 +95,55 @@ public class DriverFactory {
      * @return returns driver
      */
     public static RemoteWebDriver getDriver(DriverType driverType){
-        useSeleniumGrid = Boolean.parseBoolean(properties.getProperty("selenium-grid", "false"));
-        frameWidth = Integer.parseInt(properties.getProperty("frame-width","1920"));
-        frameHeight = Integer.parseInt(properties.getProperty("frame-height","1080"));
-        driverTimeout = Long.parseLong(properties.getProperty("driver-timeout", "15000"))/1000;
-        headless = Boolean.parseBoolean(properties.getProperty("headless", "false"));
-        deleteCookies = Boolean.parseBoolean(properties.getProperty("delete-cookies", "false"));
-        maximise = Boolean.parseBoolean(properties.getProperty("driver-maximize", "false"));
-        insecureLocalHost = Boolean.parseBoolean(properties.getProperty("insecure-localhost", "false"));
-        loadStrategy = PageLoadStrategy.fromString(properties.getProperty("load-strategy", "normal"));
-        disableNotifications = Boolean.parseBoolean(properties.getProperty("disable-notifications", "true"));
-        allowRemoteOrigin = Boolean.parseBoolean(properties.getProperty("allow-remote-origin", "true"));
-        useWDM = Boolean.parseBoolean(properties.getProperty("web-driver-manager", "false"));
+        return getDriver(driverType, DriverConfiguration.current());
+    }
 
+    /**
+     * Initializes and returns a driver of specified type with a given configuration
+     * @param driverType driver type
+     * @param configuration driver configuration
+     * @return returns driver
+     */
+    public static RemoteWebDriver getDriver(DriverType driverType, DriverConfiguration configuration){
         RemoteWebDriver driver;
 
         try {
             if (driverType == null) driverType = DriverType.fromString(properties.getProperty("browser", "chrome"));
 
-            if (useSeleniumGrid){
+            if (configuration.useSeleniumGrid()){
                 ImmutableCapabilities capabilities = new ImmutableCapabilities("browserName", driverType.getDriverKey());
-                driver = new RemoteWebDriver(new URL(properties.getProperty("hub-url","")), capabilities);
+                driver = new RemoteWebDriver(new URL(configuration.hubUrl()), capabilities);
+            }
+            else {
+                driver = driverSwitch(
+                        configuration.headless(),
+                        configuration.useWDM(),
+                        configuration.insecureLocalHost(),
+                        configuration.disableNotifications(),
+                        configuration.allowRemoteOrigin(),
+                        configuration.loadStrategy(),
+                        driverType
+                );
             }
-            else {driver = driverSwitch(headless, useWDM, insecureLocalHost, disableNotifications, allowRemoteOrigin, loadStrategy, driverType);}
 
             assert driver != null;
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(driverTimeout));
-            if (deleteCookies) driver.manage().deleteAllCookies();
-            if (maximise) driver.manage().window().maximize();
-            else driver.manage().window().setSize(new Dimension(frameWidth, frameHeight));
-            driver.setLogLevel(logUtils.getLevel(properties.getProperty("selenium-log-level", "off")));
+            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(configuration.driverTimeout().toSeconds()));
+            if (configuration.deleteCookies()) driver.manage().deleteAllCookies();
+            if (configuration.maximise()) driver.manage().window().maximize();
+            else driver.manage().window().setSize(new Dimension(configuration.frameWidth(), configuration.frameHeight()));
+            driver.setLogLevel(logUtils.getLevel(configuration.seleniumLogLevel()));
+            try {configuration.networkProfile().apply(driver);}
+            catch (RuntimeException exception) {
+                try {driver.quit();}
+                catch (WebDriverException quitException) {log.new Warning("Could not quit the driver: " + quitException.getMessage());}
+                throw new PickleibException("Could not apply the network profile: " + exception.getMessage());
+            }
+            if (configuration.commandMetrics()) CommandMetrics.instrument(driver);
             log.new Important(driverType.getDriverName() + GRAY.getValue() + " was selected");
             return driver;
         }
         catch (IOException malformedURLException) {throw new RuntimeException(malformedURLException);}
+        catch (PickleibException exception) {throw exception;}
         catch (Exception gamma) {
             if(gamma.toString().contains("Could not start a new session. Possible causes are invalid address of the remote server or browser start-up failure")){
                 log.new Info("Please make sure the "+PURPLE+"Selenium Grid "+GRAY+"is on & verify the port that its running on at 'resources/test.properties'."+RESET);
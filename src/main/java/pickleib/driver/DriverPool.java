@@ -0,0 +1,282 @@
+package pickleib.driver;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import utils.Printer;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static utils.StringUtilities.Color.*;
+
+/**
+ * Bounded pool of pre-launched browser sessions, keyed by driver type and driver options
+ * <p>
+ * Released sessions are cleaned before they are reused: extra windows are closed, cookies are deleted and the storage
+ * of the current origin is cleared. Chromium sessions delete the cookies of every domain, other browsers only delete
+ * the cookies of the current domain, and no browser clears the storage of the other visited origins.
+ * Scenarios that depend on a clean state across origins should not use pooled sessions (driver-pool-size=0).
+ */
+public class DriverPool {
+
+    private static final Printer log = new Printer(DriverPool.class);
+
+    /**
+     * Number of idle sessions kept warm per key
+     */
+    private final int size;
+
+    /**
+     * Number of times a session can be handed out before it is quit
+     */
+    private final int maxReuse;
+
+    /**
+     * Duration (ms) a session can stay idle before it is evicted
+     */
+    private final long idleTimeout;
+
+    /**
+     * Launches a new session for a given key
+     */
+    private final Function<SessionKey, RemoteWebDriver> launcher;
+
+    private final Map<SessionKey, BlockingDeque<PooledSession>> idleSessions = new ConcurrentHashMap<>();
+
+    /**
+     * Number of idle & launching sessions per key, a slot is reserved before a session is launched or returned
+     * to the idle queue, so the idle sessions never exceed the pool size
+     */
+    private final Map<SessionKey, AtomicInteger> reservedSlots = new ConcurrentHashMap<>();
+    private final Map<RemoteWebDriver, PooledSession> leasedSessions = new ConcurrentHashMap<>();
+    private final ExecutorService refillExecutor;
+    private final ScheduledExecutorService evictionExecutor;
+
+    /**
+     * Key that identifies interchangeable sessions
+     *
+     * @param driverType driver type
+     * @param configuration driver configuration the session was started with
+     */
+    public record SessionKey(DriverFactory.DriverType driverType, DriverConfiguration configuration) {}
+
+    /**
+     * Pooled session state
+     */
+    private static class PooledSession {
+        final RemoteWebDriver driver;
+        final SessionKey key;
+
+        /**
+         * Handle of the window the session was launched with, the window is kept when the session is cleaned
+         */
+        final String windowHandle;
+        int uses;
+        long idleSince;
+
+        PooledSession(RemoteWebDriver driver, SessionKey key){
+            this.driver = driver;
+            this.key = key;
+            try {this.windowHandle = driver.getWindowHandle();}
+            catch (WebDriverException exception) {
+                driver.quit();
+                throw exception;
+            }
+            this.idleSince = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Creates a driver pool
+     *
+     * @param size number of idle sessions kept warm per key
+     * @param maxReuse number of times a session can be handed out before it is quit
+     * @param idleTimeout duration (ms) a session can stay idle before it is evicted
+     * @param launcher launches a new session for a given key
+     */
+    public DriverPool(int size, int maxReuse, long idleTimeout, Function<SessionKey, RemoteWebDriver> launcher){
+        this.size = size;
+        this.maxReuse = maxReuse;
+        this.idleTimeout = idleTimeout;
+        this.launcher = launcher;
+        this.refillExecutor = Executors.newFixedThreadPool(Math.max(1, size), daemonThreads("pickleib-pool-refill"));
+        this.evictionExecutor = Executors.newSingleThreadScheduledExecutor(daemonThreads("pickleib-pool-eviction"));
+        long evictionPeriod = Math.max(1000, idleTimeout / 2);
+        evictionExecutor.scheduleAtFixedRate(this::evictIdleSessions, evictionPeriod, evictionPeriod, TimeUnit.MILLISECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown));
+    }
+
+    /**
+     * Starts launching sessions for a given key in the background
+     *
+     * @param key session key
+     */
+    public void warmUp(SessionKey key){refill(key);}
+
+    /**
+     * Hands out a session for a given key, launches one if no idle session is available
+     *
+     * @param key session key
+     * @return returns a ready to use session
+     */
+    public RemoteWebDriver acquire(SessionKey key){
+        PooledSession session = idleQueue(key).pollFirst();
+        if (session != null) slots(key).decrementAndGet();
+        else {
+            log.new Info("No idle " + key.driverType().getDriverName() + GRAY.getValue() + " session in the pool, launching one...");
+            session = new PooledSession(launcher.apply(key), key);
+        }
+        session.uses++;
+        leasedSessions.put(session.driver, session);
+        refill(key);
+        return session.driver;
+    }
+
+    /**
+     * Returns a session to the pool, after cleaning its cookies, storage & windows
+     *
+     * @param driver leased session
+     * @return returns false if the driver was not leased from this pool
+     */
+    public boolean release(RemoteWebDriver driver){
+        PooledSession session = leasedSessions.remove(driver);
+        if (session == null) return false;
+        if (session.uses >= maxReuse || !clean(session)) {
+            quit(session);
+            refill(session.key);
+            return true;
+        }
+        session.idleSince = System.currentTimeMillis();
+        if (reserve(slots(session.key))) idleQueue(session.key).offerFirst(session);
+        else quit(session);
+        return true;
+    }
+
+    /**
+     * Checks if a given driver was leased from this pool
+     *
+     * @param driver target driver
+     * @return returns true if the driver is a pooled session
+     */
+    public boolean isLeased(RemoteWebDriver driver){return leasedSessions.containsKey(driver);}
+
+    /**
+     * Quits every idle session and stops the background tasks
+     */
+    public void shutdown(){
+        refillExecutor.shutdownNow();
+        evictionExecutor.shutdownNow();
+        for (BlockingDeque<PooledSession> queue : idleSessions.values()) {
+            PooledSession session;
+            while ((session = queue.pollFirst()) != null) quit(session);
+        }
+    }
+
+    /**
+     * Launches sessions in the background until the idle sessions of a given key reach the pool size
+     *
+     * @param key session key
+     */
+    private void refill(SessionKey key){
+        AtomicInteger slots = slots(key);
+        while (reserve(slots)) {
+            try {
+                refillExecutor.execute(() -> {
+                    try {idleQueue(key).offerLast(new PooledSession(launcher.apply(key), key));}
+                    catch (RuntimeException exception) {
+                        slots.decrementAndGet();
+                        log.new Warning("Could not pre-launch a session: " + exception.getMessage());
+                    }
+                });
+            }
+            catch (RejectedExecutionException exception) {
+                slots.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reserves an idle session slot, if the slots are not exhausted
+     *
+     * @param slots reserved slots of a key
+     * @return returns true if a slot is reserved
+     */
+    private boolean reserve(AtomicInteger slots){
+        for (int reserved = slots.get(); reserved < size; reserved = slots.get())
+            if (slots.compareAndSet(reserved, reserved + 1)) return true;
+        return false;
+    }
+
+    /**
+     * Quits the sessions that stayed idle longer than the idle timeout
+     */
+    private void evictIdleSessions(){
+        long now = System.currentTimeMillis();
+        for (BlockingDeque<PooledSession> queue : idleSessions.values())
+            for (PooledSession session : queue)
+                if (now - session.idleSince > idleTimeout && queue.remove(session)) {
+                    slots(session.key).decrementAndGet();
+                    quit(session);
+                }
+    }
+
+    /**
+     * Clears cookies, storage & extra windows of a session, the window the session was launched with is kept
+     * (see the class documentation for the cross-origin limitations)
+     *
+     * @param session target session
+     * @return returns true if the session was cleaned, false if it is not reusable (e.g. its launch window is closed)
+     */
+    private boolean clean(PooledSession session){
+        RemoteWebDriver driver = session.driver;
+        try {
+            Set<String> handles = driver.getWindowHandles();
+            if (!handles.contains(session.windowHandle)) {
+                log.new Warning("The launch window of the session is closed, the session will not be reused.");
+                return false;
+            }
+            for (String handle : handles)
+                if (!handle.equals(session.windowHandle)) driver.switchTo().window(handle).close();
+            driver.switchTo().window(session.windowHandle);
+            ((JavascriptExecutor) driver).executeScript(
+                    "/*pickleib:clear-storage*/ try {window.localStorage.clear(); window.sessionStorage.clear();} catch (e) {}"
+            );
+            driver.manage().deleteAllCookies();
+            if (driver instanceof ChromiumDriver chromiumDriver)
+                chromiumDriver.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            driver.get("about:blank");
+            return true;
+        }
+        catch (WebDriverException exception) {
+            log.new Warning("Could not clean the session: " + exception.getMessage());
+            return false;
+        }
+    }
+
+    private void quit(PooledSession session){
+        try {session.driver.quit();}
+        catch (WebDriverException exception) {log.new Warning("Could not quit the session: " + exception.getMessage());}
+    }
+
+    private AtomicInteger slots(SessionKey key){
+        return reservedSlots.computeIfAbsent(key, k -> new AtomicInteger());
+    }
+
+    private BlockingDeque<PooledSession> idleQueue(SessionKey key){
+        return idleSessions.computeIfAbsent(key, k -> new LinkedBlockingDeque<>());
+    }
+
+    private static ThreadFactory daemonThreads(String name){
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
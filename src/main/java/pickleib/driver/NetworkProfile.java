@@ -0,0 +1,132 @@
+package pickleib.driver;
+
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.v85.fetch.Fetch;
+import org.openqa.selenium.devtools.v85.fetch.model.RequestPattern;
+import org.openqa.selenium.devtools.v85.fetch.model.RequestStage;
+import org.openqa.selenium.devtools.v85.network.model.ErrorReason;
+import org.openqa.selenium.devtools.v85.network.model.ResourceType;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import pickleib.exceptions.PickleibException;
+import utils.Printer;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Declarative network blocking profile, enforced through the DevTools Fetch domain on Chromium drivers
+ * <p>
+ * Requests matching a blocked url pattern (blocked-urls) or resource type (blocked-resource-types) fail
+ * as blocked by client, unless they match an allowed url pattern (allowed-urls).
+ * Url patterns are comma separated and support the * and ? wildcards, e.g. "*google-analytics.com*, *.woff2"
+ * Resource types are DevTools resource types, e.g. "image, font, media"
+ *
+ * @param blockedUrls blocked url patterns
+ * @param blockedResourceTypes blocked resource types
+ * @param allowedUrls url patterns that are never blocked
+ */
+public record NetworkProfile(List<String> blockedUrls, List<ResourceType> blockedResourceTypes, List<String> allowedUrls) {
+
+    private static final Printer log = new Printer(NetworkProfile.class);
+
+    public NetworkProfile {
+        blockedUrls = List.copyOf(blockedUrls);
+        blockedResourceTypes = List.copyOf(blockedResourceTypes);
+        allowedUrls = List.copyOf(allowedUrls);
+    }
+
+    /**
+     * Parses the network profile properties of a given property set
+     *
+     * @param properties source properties
+     * @return returns the network profile
+     */
+    public static NetworkProfile fromProperties(Properties properties){
+        List<ResourceType> resourceTypes = new ArrayList<>();
+        for (String typeName : split(properties.getProperty("blocked-resource-types", "")))
+            resourceTypes.add(resourceType(typeName));
+        return new NetworkProfile(
+                split(properties.getProperty("blocked-urls", "")),
+                resourceTypes,
+                split(properties.getProperty("allowed-urls", ""))
+        );
+    }
+
+    /**
+     * @return returns true if the profile blocks nothing
+     */
+    public boolean isEmpty(){return blockedUrls.isEmpty() && blockedResourceTypes.isEmpty();}
+
+    /**
+     * Enforces the profile on a given driver, drivers other than Chromium drivers are left unchanged
+     * (Firefox exposes DevTools too, but it does not support the Fetch domain)
+     *
+     * @param driver target driver
+     */
+    public void apply(RemoteWebDriver driver){
+        if (isEmpty()) return;
+        if (!(driver instanceof ChromiumDriver chromiumDriver)) {
+            log.new Warning("Network profile requires a Chromium driver, requests of " + driver.getClass().getSimpleName() + " are not blocked.");
+            return;
+        }
+        List<RequestPattern> patterns = new ArrayList<>();
+        for (String url : blockedUrls)
+            patterns.add(new RequestPattern(Optional.of(url), Optional.empty(), Optional.of(RequestStage.REQUEST)));
+        for (ResourceType resourceType : blockedResourceTypes)
+            patterns.add(new RequestPattern(Optional.of("*"), Optional.of(resourceType), Optional.of(RequestStage.REQUEST)));
+
+        List<Pattern> allowedPatterns = allowedUrls.stream().map(NetworkProfile::wildcard).toList();
+        DevTools devTools = chromiumDriver.getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+        devTools.addListener(Fetch.requestPaused(), request -> {
+            if (matchesAny(allowedPatterns, request.getRequest().getUrl()))
+                devTools.send(Fetch.continueRequest(
+                        request.getRequestId(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty()
+                ));
+            else devTools.send(Fetch.failRequest(request.getRequestId(), ErrorReason.BLOCKEDBYCLIENT));
+        });
+        devTools.send(Fetch.enable(Optional.of(patterns), Optional.of(false)));
+        log.new Info("Network profile is enabled, blocking " + blockedUrls + " & " + blockedResourceTypes);
+    }
+
+    /**
+     * @return returns the profile as network profile properties
+     */
+    public Map<String, String> toProperties(){
+        return Map.of(
+                "blocked-urls", String.join(",", blockedUrls),
+                "blocked-resource-types", String.join(",", blockedResourceTypes.stream().map(ResourceType::toString).toList()),
+                "allowed-urls", String.join(",", allowedUrls)
+        );
+    }
+
+    private static ResourceType resourceType(String typeName){
+        for (ResourceType resourceType : ResourceType.values())
+            if (resourceType.toString().equalsIgnoreCase(typeName)) return resourceType;
+        throw new PickleibException("Unknown resource type in blocked-resource-types: " + typeName);
+    }
+
+    private static List<String> split(String value){
+        List<String> values = new ArrayList<>();
+        for (String item : value.split(",")) if (!item.isBlank()) values.add(item.trim());
+        return values;
+    }
+
+    private static boolean matchesAny(List<Pattern> patterns, String url){
+        for (Pattern pattern : patterns) if (pattern.matcher(url).matches()) return true;
+        return false;
+    }
+
+    private static Pattern wildcard(String pattern){
+        StringBuilder regex = new StringBuilder();
+        for (char character : pattern.toCharArray()) {
+            switch (character) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                default -> regex.append(Pattern.quote(String.valueOf(character)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+}
@@ -0,0 +1,230 @@
+package pickleib.driver;
+
+import org.openqa.selenium.remote.RemoteWebDriver;
+import pickleib.utilities.ScreenCaptureUtility;
+import utils.Printer;
+import utils.PropertyUtility;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static utils.StringUtilities.Color.*;
+
+/**
+ * Runs scenarios concurrently on a bounded worker pool, each worker drives its own browser session
+ * <p>
+ * The worker registers its driver for its thread (see Driver.setDriver), so interaction classes created within a scenario
+ * resolve the worker's driver. Parallelism is capped by the scenario-parallelism property, the available cores and
+ * the free physical memory (browser-memory-mb per session).
+ * Element timeouts are set per scenario (see submit(name, elementTimeout, scenario)), other properties are shared.
+ */
+public class ScenarioExecutor implements AutoCloseable {
+
+    private static final Printer log = new Printer(ScenarioExecutor.class);
+    private static final Properties properties = PropertyUtility.properties;
+
+    /**
+     * Scenario body, runs on a worker thread with a registered driver
+     */
+    @FunctionalInterface
+    public interface Scenario {
+        void run(RemoteWebDriver driver) throws Exception;
+    }
+
+    /**
+     * Outcome of a scenario
+     *
+     * @param name scenario name
+     * @param passed true if the scenario completed without throwing
+     * @param duration scenario duration, including driver acquisition
+     * @param failure failure cause, null if the scenario passed
+     */
+    public record Result(String name, boolean passed, Duration duration, Throwable failure) {}
+
+    /**
+     * Aggregated outcome of a scenario run
+     *
+     * @param results scenario results, in submission order
+     * @param duration wall clock duration of the run
+     */
+    public record Report(List<Result> results, Duration duration) {
+
+        public List<Result> passed(){return results.stream().filter(Result::passed).toList();}
+
+        public List<Result> failed(){return results.stream().filter(result -> !result.passed()).toList();}
+
+        /**
+         * @return returns a summary line per scenario, followed by the totals
+         */
+        public String summary(){
+            StringBuilder summary = new StringBuilder();
+            for (Result result : results)
+                summary.append(String.format(
+                        "%s: %s (%d ms)%s%n",
+                        result.name(),
+                        result.passed() ? "passed" : "failed",
+                        result.duration().toMillis(),
+                        result.passed() ? "" : " " + result.failure()
+                ));
+            summary.append(String.format(
+                    "%d scenarios, %d passed, %d failed in %d ms",
+                    results.size(), passed().size(), failed().size(), duration.toMillis()
+            ));
+            return summary.toString();
+        }
+    }
+
+    private final DriverFactory.DriverType driverType;
+    private final DriverConfiguration configuration;
+    private final int parallelism;
+    private final ExecutorService workers;
+
+    /**
+     * Creates an executor with the default parallelism and the browser property's driver type
+     */
+    public ScenarioExecutor(){
+        this(defaultParallelism(), null);
+    }
+
+    /**
+     * Creates an executor
+     *
+     * @param parallelism maximum number of concurrent scenarios (browser sessions)
+     * @param driverType driver type, the browser property is used if null
+     */
+    public ScenarioExecutor(int parallelism, DriverFactory.DriverType driverType){
+        this(parallelism, driverType, DriverConfiguration.current());
+    }
+
+    /**
+     * Creates an executor whose sessions use a given driver configuration
+     *
+     * @param parallelism maximum number of concurrent scenarios (browser sessions)
+     * @param driverType driver type, the browser property is used if null
+     * @param configuration driver configuration of the sessions
+     */
+    public ScenarioExecutor(int parallelism, DriverFactory.DriverType driverType, DriverConfiguration configuration){
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        this.parallelism = parallelism;
+        this.driverType = driverType;
+        this.configuration = configuration;
+        AtomicInteger workerCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread worker = new Thread(runnable, "pickleib-scenario-" + workerCount.incrementAndGet());
+            worker.setDaemon(true);
+            return worker;
+        });
+    }
+
+    /**
+     * Computes the default parallelism, the lowest of the scenario-parallelism property,
+     * the available cores and the number of browser sessions the free physical memory can host
+     *
+     * @return returns the default parallelism
+     */
+    public static int defaultParallelism(){
+        int cores = Runtime.getRuntime().availableProcessors();
+        int limit = Integer.parseInt(properties.getProperty("scenario-parallelism", String.valueOf(cores)));
+        long sessionMemory = Long.parseLong(properties.getProperty("browser-memory-mb", "512")) * 1024 * 1024;
+        OperatingSystemMXBean system = ManagementFactory.getOperatingSystemMXBean();
+        int memoryLimit = Integer.MAX_VALUE;
+        if (system instanceof com.sun.management.OperatingSystemMXBean systemMemory && sessionMemory > 0)
+            memoryLimit = (int) Math.min(Integer.MAX_VALUE, systemMemory.getFreeMemorySize() / sessionMemory);
+        return Math.max(1, Math.min(limit, Math.min(cores, memoryLimit)));
+    }
+
+    /**
+     * @return returns the maximum number of concurrent scenarios
+     */
+    public int parallelism(){return parallelism;}
+
+    /**
+     * Submits a scenario, it runs once a worker is available
+     *
+     * @param name scenario name
+     * @param scenario scenario body
+     * @return returns the scenario result, scenario failures complete the future normally with a failed result
+     */
+    public CompletableFuture<Result> submit(String name, Scenario scenario){
+        return submit(name, null, scenario);
+    }
+
+    /**
+     * Submits a scenario with its own element timeout, it runs once a worker is available
+     *
+     * @param name scenario name
+     * @param elementTimeout element timeout of the interaction classes created within the scenario,
+     *                       the element-timeout property is used if null
+     * @param scenario scenario body
+     * @return returns the scenario result, scenario failures complete the future normally with a failed result
+     */
+    public CompletableFuture<Result> submit(String name, Duration elementTimeout, Scenario scenario){
+        return CompletableFuture.supplyAsync(() -> execute(name, elementTimeout, scenario), workers);
+    }
+
+    /**
+     * Runs given scenarios concurrently and waits for all of them to complete
+     *
+     * @param scenarios scenarios by name, in run order
+     * @return returns the aggregated report
+     */
+    public Report run(Map<String, Scenario> scenarios){
+        long start = System.nanoTime();
+        List<CompletableFuture<Result>> futures = new ArrayList<>();
+        scenarios.forEach((name, scenario) -> futures.add(submit(name, scenario)));
+        List<Result> results = futures.stream().map(CompletableFuture::join).toList();
+        Report report = new Report(results, Duration.ofNanos(System.nanoTime() - start));
+        if (report.failed().isEmpty()) log.new Success("Scenario run completed:\n" + report.summary());
+        else log.new Warning("Scenario run completed with failures:\n" + report.summary());
+        return report;
+    }
+
+    /**
+     * Runs a scenario on the current (worker) thread with its own driver & element timeout
+     *
+     * @param name scenario name
+     * @param elementTimeout element timeout of the scenario, the element-timeout property is used if null
+     * @param scenario scenario body
+     * @return returns the scenario result
+     */
+    private Result execute(String name, Duration elementTimeout, Scenario scenario){
+        long start = System.nanoTime();
+        log.new Info("Running " + BLUE + name + GRAY + " on " + Thread.currentThread().getName() + RESET);
+        RemoteWebDriver driver = null;
+        Driver.setElementTimeout(elementTimeout);
+        try {
+            driver = DriverFactory.acquireDriver(driverType, configuration);
+            Driver.setDriver(driver);
+            scenario.run(driver);
+            return new Result(name, true, Duration.ofNanos(System.nanoTime() - start), null);
+        }
+        catch (Throwable failure) {
+            log.new Warning(name + " failed: " + failure);
+            if (driver != null) new ScreenCaptureUtility().writeFrames(name, driver);
+            return new Result(name, false, Duration.ofNanos(System.nanoTime() - start), failure);
+        }
+        finally {
+            Driver.setElementTimeout(null);
+            if (driver != null) Driver.terminate(driver);
+        }
+    }
+
+    /**
+     * Stops accepting scenarios and waits for the running ones to complete
+     */
+    @Override
+    public void close(){
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(1, TimeUnit.HOURS)) workers.shutdownNow();
+        }
+        catch (InterruptedException exception) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
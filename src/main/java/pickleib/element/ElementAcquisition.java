@@ -21,14 +21,12 @@ public class ElementAcquisition {
          * @param objectRepository instance that includes specified page instance
          */
         public WebElement elementFromPage(String elementName, String pageName, Object objectRepository){
-            log.new Info("Acquiring element " +
+            logger.info(() -> "Acquiring element " +
                     highlighted(BLUE, elementName) +
                     highlighted(GRAY," from the ") +
                     highlighted(BLUE, pageName)
             );
-            pageName = strUtils.firstLetterDeCapped(pageName);
-            elementName = strUtils.contextCheck(elementName);
-            return getElementFromPage(elementName, pageName, objectRepository);
+            return getElementFromPage(contextCheck(elementName), strUtils.firstLetterDeCapped(pageName), objectRepository);
         }
 
         /**
@@ -41,15 +39,13 @@ public class ElementAcquisition {
          * @param objectRepository instance that includes specified page instance
          */
         public WebElement elementFromComponent(String elementName, String componentFieldName, String pageName, Object objectRepository) {
-            log.new Info("Acquiring element " +
+            logger.info(() -> "Acquiring element " +
                     highlighted(BLUE, elementName) +
                     highlighted(GRAY," from the ") +
                     highlighted(BLUE, pageName)
             );
-            pageName = strUtils.firstLetterDeCapped(pageName);
             componentFieldName = strUtils.firstLetterDeCapped(componentFieldName);
-            elementName = strUtils.contextCheck(elementName);
-            return getElementFromComponent(elementName, componentFieldName, pageName, objectRepository);
+            return getElementFromComponent(contextCheck(elementName), componentFieldName, strUtils.firstLetterDeCapped(pageName), objectRepository);
         }
 
         /**
@@ -67,7 +63,7 @@ public class ElementAcquisition {
                 String pageName,
                 Object objectRepository
         ) {
-            log.new Info("Acquiring listed element named " +
+            logger.info(() -> "Acquiring listed element named " +
                     highlighted(BLUE, elementName) +
                     highlighted(GRAY," selected from ") +
                     highlighted(BLUE, listName) +
@@ -75,15 +71,12 @@ public class ElementAcquisition {
                     highlighted(BLUE, pageName)
             );
 
-            pageName = strUtils.firstLetterDeCapped(pageName);
-            listName = strUtils.firstLetterDeCapped(listName);
-            elementName = strUtils.contextCheck(elementName);
             List<WebElement> elements = getElementsFromPage(
-                    listName,
-                    pageName,
+                    strUtils.firstLetterDeCapped(listName),
+                    strUtils.firstLetterDeCapped(pageName),
                     objectRepository
             );
-            return acquireNamedElementAmongst(elements, elementName);
+            return acquireNamedElementAmongst(elements, contextCheck(elementName));
         }
 
         /**
@@ -103,7 +96,7 @@ public class ElementAcquisition {
                 String pageName,
                 Object objectRepository
         ) {
-            log.new Info("Acquiring listed element named " +
+            logger.info(() -> "Acquiring listed element named " +
                     highlighted(BLUE, elementName) +
                     highlighted(GRAY," selected from ") +
                     highlighted(BLUE, listFieldName) +
@@ -113,17 +106,13 @@ public class ElementAcquisition {
                     highlighted(BLUE, pageName)
             );
 
-            componentFieldName = strUtils.firstLetterDeCapped(componentFieldName);
-            pageName = strUtils.firstLetterDeCapped(pageName);
-            listFieldName = strUtils.firstLetterDeCapped(listFieldName);
-            elementName = strUtils.contextCheck(elementName);
             List<WebElement> elements = getElementsFromComponent(
-                    listFieldName,
-                    componentFieldName,
-                    pageName,
+                    strUtils.firstLetterDeCapped(listFieldName),
+                    strUtils.firstLetterDeCapped(componentFieldName),
+                    strUtils.firstLetterDeCapped(pageName),
                     objectRepository
             );
-            return acquireNamedElementAmongst(elements, elementName);
+            return acquireNamedElementAmongst(elements, contextCheck(elementName));
         }
 
         /**
@@ -143,7 +132,7 @@ public class ElementAcquisition {
                 String pageName,
                 Object objectRepository
         ) {
-            log.new Info("Acquiring listed element named " +
+            logger.info(() -> "Acquiring listed element named " +
                     highlighted(BLUE, elementName) +
                     highlighted(GRAY," selected from ") +
                     highlighted(BLUE, componentListName) +
@@ -152,12 +141,9 @@ public class ElementAcquisition {
                     highlighted(GRAY," component on the ") +
                     highlighted(BLUE, pageName)
             );
-            pageName = strUtils.firstLetterDeCapped(pageName);
-            componentListName = strUtils.firstLetterDeCapped(componentListName);
-            elementName = strUtils.contextCheck(elementName);
-            List<WebComponent> componentList = getComponentsFromPage(componentListName, pageName, objectRepository);
+            List<WebComponent> componentList = getComponentsFromPage(strUtils.firstLetterDeCapped(componentListName), strUtils.firstLetterDeCapped(pageName), objectRepository);
             WebComponent component = acquireNamedComponentAmongst(componentList, componentName);
-            return getElementFromComponent(elementName, component);
+            return getElementFromComponent(contextCheck(elementName), component);
         }
 
         /**
@@ -177,7 +163,7 @@ public class ElementAcquisition {
                 String pageName,
                 Object objectRepository
         ) {
-            log.new Info("Acquiring exact listed element named " +
+            logger.info(() -> "Acquiring exact listed element named " +
                     highlighted(BLUE, elementFieldName) +
                     highlighted(GRAY," selected from ") +
                     highlighted(BLUE, componentListName) +
@@ -205,18 +191,15 @@ public class ElementAcquisition {
                 String pageName,
                 Object objectRepository
         ) {
-            log.new Info("Acquiring exact listed component by element named " +
+            logger.info(() -> "Acquiring exact listed component by element named " +
                     highlighted(BLUE, elementFieldName) +
                     highlighted(GRAY," selected from ") +
                     highlighted(BLUE, componentListName) +
                     highlighted(GRAY," component list on the ") +
                     highlighted(BLUE, pageName)
             );
-            pageName = strUtils.firstLetterDeCapped(pageName);
-            componentListName = strUtils.firstLetterDeCapped(componentListName);
-            elementFieldName = strUtils.contextCheck(elementFieldName);
-            List<WebComponent> components = getComponentsFromPage(componentListName, pageName, objectRepository);
-            return acquireExactNamedComponentAmongst(components, elementText, elementFieldName);
+            List<WebComponent> components = getComponentsFromPage(strUtils.firstLetterDeCapped(componentListName), strUtils.firstLetterDeCapped(pageName), objectRepository);
+            return acquireExactNamedComponentAmongst(components, elementText, contextCheck(elementFieldName));
         }
 
         /**
@@ -238,21 +221,18 @@ public class ElementAcquisition {
                 String pageName,
                 Object objectRepository
         ) {
-            log.new Info("Acquiring listed element named " +
+            logger.info(() -> "Acquiring listed element named " +
                     highlighted(BLUE, elementName) +
                     highlighted(GRAY," selected from ") +
                     highlighted(BLUE, componentListName) +
                     highlighted(GRAY," component list on the ") +
                     highlighted(BLUE, pageName)
             );
-            elementName = strUtils.contextCheck(elementName);
-            componentName = strUtils.contextCheck(componentName);
-            pageName = strUtils.firstLetterDeCapped(pageName);
-            componentListName = strUtils.firstLetterDeCapped(componentListName);
-            List<WebComponent> components = getComponentsFromPage(componentListName, pageName, objectRepository);
+            componentName = contextCheck(componentName);
+            List<WebComponent> components = getComponentsFromPage(strUtils.firstLetterDeCapped(componentListName), strUtils.firstLetterDeCapped(pageName), objectRepository);
             WebComponent component = acquireNamedComponentAmongst(components, componentName);
             List<WebElement> elements = getElementsFromComponent(elementListName, component);
-            return acquireNamedElementAmongst(elements, elementName);
+            return acquireNamedElementAmongst(elements, contextCheck(elementName));
         }
 
         /**
@@ -272,21 +252,19 @@ public class ElementAcquisition {
                 String pageName,
                 Object objectRepository
         ) {
-            log.new Info("Acquiring element by " +
+            logger.info(() -> "Acquiring element by " +
                     highlighted(BLUE, attributeName) +
                     highlighted(GRAY," attribute selected from ") +
                     highlighted(BLUE, listName) +
                     highlighted(GRAY, " list on the ") +
                     highlighted(BLUE, pageName)
             );
-            attributeName = strUtils.contextCheck(attributeName);
-            pageName = strUtils.firstLetterDeCapped(pageName);
             List<WebElement> elements = getElementsFromPage(
                     listName,
-                    strUtils.firstLetterDeCapped(pageName),
+                    strUtils.firstLetterDeCapped(strUtils.firstLetterDeCapped(pageName)),
                     objectRepository
             );
-            return acquireElementUsingAttributeAmongst(elements, attributeName, attributeValue);
+            return acquireElementUsingAttributeAmongst(elements, contextCheck(attributeName), attributeValue);
         }
 
         /**
@@ -308,23 +286,21 @@ public class ElementAcquisition {
                 String pageName,
                 Object objectRepository
         ) {
-            log.new Info("Acquiring element by " +
+            logger.info(() -> "Acquiring element by " +
                     highlighted(BLUE, attributeName) +
                     highlighted(GRAY," attribute selected from ") +
                     highlighted(BLUE, listName) +
                     highlighted(GRAY, " list on the ") +
                     highlighted(BLUE, pageName)
             );
-            attributeName = strUtils.contextCheck(attributeName);
-            pageName = strUtils.firstLetterDeCapped(pageName);
             componentName = strUtils.firstLetterDeCapped(componentName);
             List<WebElement> elements = getElementsFromComponent(
                     listName,
                     componentName,
-                    pageName,
+                    strUtils.firstLetterDeCapped(pageName),
                     objectRepository
             );
-            return acquireElementUsingAttributeAmongst(elements, attributeName, attributeValue);
+            return acquireElementUsingAttributeAmongst(elements, contextCheck(attributeName), attributeValue);
         }
 
         /**
@@ -335,14 +311,13 @@ public class ElementAcquisition {
          * @param objectRepository instance that includes specified page instance
          */
         public List<Bundle<WebElement, String, String>> elementList(List<Map<String, String>> signForms, String pageName, Object objectRepository) {
-            log.new Info("Acquiring element list from " + highlighted(BLUE, pageName));
-            pageName = strUtils.firstLetterDeCapped(pageName);
+            logger.info(() -> "Acquiring element list from " + highlighted(BLUE, pageName));
             List<Bundle<WebElement, String, String>> bundles = new ArrayList<>();
             for (Map<String, String> form : signForms) {
                 String inputName = form.get("Input Element");
-                String input = strUtils.contextCheck(form.get("Input"));
+                String input = contextCheck(form.get("Input"));
                 Bundle<WebElement, String, String> bundle = new Bundle<>(
-                        getElementFromPage(inputName, pageName, objectRepository),
+                        getElementFromPage(inputName, strUtils.firstLetterDeCapped(pageName), objectRepository),
                         input,
                         inputName
                 );
@@ -359,15 +334,14 @@ public class ElementAcquisition {
          * @param objectRepository instance that includes specified page instance
          */
         public List<Bundle<WebElement, String, String>> componentElementList(List<Map<String, String>> signForms, String componentName, String pageName, Object objectRepository) {
-            log.new Info("Acquiring element list from " + highlighted(BLUE, pageName));
-            pageName = strUtils.firstLetterDeCapped(pageName);
+            logger.info(() -> "Acquiring element list from " + highlighted(BLUE, pageName));
             List<Bundle<WebElement, String, String>> bundles = new ArrayList<>();
             for (Map<String, String> form : signForms) {
                 String inputName = form.get("Input Element");
-                String input = strUtils.contextCheck(form.get("Input"));
+                String input = contextCheck(form.get("Input"));
                 componentName = strUtils.firstLetterDeCapped(componentName);
                 Bundle<WebElement, String, String> bundle = new Bundle<>(
-                        getElementFromComponent(inputName, componentName, pageName, objectRepository),
+                        getElementFromComponent(inputName, componentName, strUtils.firstLetterDeCapped(pageName), objectRepository),
                         input,
                         inputName
                 );
@@ -391,7 +365,7 @@ public class ElementAcquisition {
                 Map<String, String> specifications,
                 Object objectRepository
         ){
-            log.new Info("Acquiring element bundle from " + highlighted(BLUE, pageName));
+            logger.info(() -> "Acquiring element bundle from " + highlighted(BLUE, pageName));
             return new Bundle<>(elementFieldName, elementFromPage(elementFieldName, pageName, objectRepository), specifications);
         }
 
@@ -408,7 +382,7 @@ public class ElementAcquisition {
                 List<Map<String, String>> specifications,
                 Object objectRepository
         ){
-            log.new Info("Acquiring element bundle from " + highlighted(BLUE, pageName));
+            logger.info(() -> "Acquiring element bundle from " + highlighted(BLUE, pageName));
             List<Bundle<String, WebElement, Map<String, String>>> bundles = new ArrayList<>();
             for (Map<String, String> specification:specifications) {
                 bundles.add(elementBundleFromPage(specification.get("Element Name"), pageName, specification, objectRepository));
@@ -431,7 +405,7 @@ public class ElementAcquisition {
                 Map<String, String> specifications,
                 Object objectRepository
         ){
-            log.new Info("Acquiring element bundle from " + highlighted(BLUE, pageName));
+            logger.info(() -> "Acquiring element bundle from " + highlighted(BLUE, pageName));
             return new Bundle<>(specifications.get("Element Name"), elementFromComponent(
                     specifications.get("Element Name"),
                     componentFieldName,
@@ -455,7 +429,7 @@ public class ElementAcquisition {
                 List<Map<String, String>> specifications,
                 Object objectRepository
         ){
-            log.new Info("Acquiring element bundle from " + highlighted(BLUE, pageName));
+            logger.info(() -> "Acquiring element bundle from " + highlighted(BLUE, pageName));
             List<Bundle<String, WebElement, Map<String, String>>> bundles = new ArrayList<>();
             for (Map<String, String> specification:specifications) {
                 bundles.add(
@@ -488,12 +462,11 @@ public class ElementAcquisition {
                 String pageName,
                 Object objectRepository
         ){
-            log.new Info("Acquiring element bundle from " + highlighted(BLUE, pageName));
-            String selectorElementText = strUtils.contextCheck(specifications.get("Selector Text"));
-            String selectorElementName = strUtils.contextCheck(specifications.get("Selector Element"));
-            String targetElementName = strUtils.contextCheck(specifications.get("Target Element"));
-            pageName = strUtils.firstLetterDeCapped(pageName);
-            List<WebComponent> components = getComponentsFromPage(componentListName, pageName, objectRepository);
+            logger.info(() -> "Acquiring element bundle from " + highlighted(BLUE, pageName));
+            String selectorElementText = contextCheck(specifications.get("Selector Text"));
+            String selectorElementName = contextCheck(specifications.get("Selector Element"));
+            String targetElementName = contextCheck(specifications.get("Target Element"));
+            List<WebComponent> components = getComponentsFromPage(componentListName, strUtils.firstLetterDeCapped(pageName), objectRepository);
             WebComponent component = acquireExactNamedComponentAmongst(components, selectorElementText, selectorElementName);
             return new Bundle<>(targetElementName, getElementFromComponent(targetElementName, component), specifications);
         }
@@ -513,7 +486,7 @@ public class ElementAcquisition {
                 String pageName,
                 Object objectRepository
         ){
-            log.new Info("Acquiring element bundles from " + highlighted(BLUE, pageName));
+            logger.info(() -> "Acquiring element bundles from " + highlighted(BLUE, pageName));
             List<Bundle<String, WebElement, Map<String, String>>> pairs = new ArrayList<>();
             for (Map<String, String> map:specifications) {
                 pairs.add(selectChildElementFromComponentsBySecondChildText(map, componentListName, pageName, objectRepository));
@@ -539,7 +512,7 @@ public class ElementAcquisition {
      //           JsonObject objectRepository,
      //           SelectorType... selectorTypes
      //   ){
-     //       log.new Info("Acquiring element " +
+     //       logger.info(() -> "Acquiring element " +
      //               highlighted(BLUE, elementName) +
      //               highlighted(GRAY," from the ") +
      //               highlighted(BLUE, pageName)
@@ -579,7 +552,7 @@ public class ElementAcquisition {
      //    * @param objectRepository instance that includes specified page instance
      //    */
      //   public List<WebElement> elementsFromPage(String elementName, String pageName, JsonObject objectRepository, SelectorType... selectorTypes){
-     //       log.new Info("Acquiring element " +
+     //       logger.info(() -> "Acquiring element " +
      //               highlighted(BLUE, elementName) +
      //               highlighted(GRAY," from the ") +
      //               highlighted(BLUE, pageName)
@@ -1,14 +1,12 @@
 package pickleib.interaction;
 
 import com.github.webdriverextensions.WebComponent;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.pagefactory.ByAll;
 import pickleib.enums.PrimarySelectorType;
 import pickleib.enums.SelectorType;
+import pickleib.utilities.JsonObjectRepository;
 import pickleib.utilities.WebUtilities;
 import records.Bundle;
 import records.Pair;
@@ -33,13 +31,12 @@ public class ElementAcquisition {
          * @param objectRepository instance that includes specified page instance
          */
         public WebElement elementFromPage(String elementName, String pageName, Object objectRepository){
-            log.new Info("Acquiring element " +
+            logger.info(() -> "Acquiring element " +
                     highlighted(BLUE, elementName) +
                     highlighted(GRAY," from the ") +
                     highlighted(BLUE, pageName)
             );
-            pageName = strUtils.firstLetterDeCapped(pageName);
-            return getElementFromPage(elementName, pageName, objectRepository);
+            return getElementFromPage(elementName, strUtils.firstLetterDeCapped(pageName), objectRepository);
         }
 
         /**
@@ -52,7 +49,7 @@ public class ElementAcquisition {
          * @param objectRepository instance that includes specified page instance
          */
         public WebElement elementFromComponent(String elementName, String componentFieldName, String pageName, Object objectRepository) {
-            log.new Info("Acquiring element " +
+            logger.info(() -> "Acquiring element " +
                     highlighted(BLUE, elementName) +
                     highlighted(GRAY," from the ") +
                     highlighted(BLUE, pageName)
@@ -77,7 +74,7 @@ public class ElementAcquisition {
                 String pageName,
                 Object objectRepository
         ) {
-            log.new Info("Acquiring listed element named " +
+            logger.info(() -> "Acquiring listed element named " +
                     highlighted(BLUE, elementName) +
                     highlighted(GRAY," selected from ") +
                     highlighted(BLUE, componentListName) +
@@ -87,17 +84,13 @@ public class ElementAcquisition {
                     highlighted(BLUE, pageName)
             );
 
-            componentFieldName = strUtils.firstLetterDeCapped(componentFieldName);
-            pageName = strUtils.firstLetterDeCapped(pageName);
-            componentListName = strUtils.firstLetterDeCapped(componentListName);
-            elementName = strUtils.contextCheck(elementName);
             List<WebElement> elements = getElementsFromComponent(
-                    componentListName,
-                    componentFieldName,
-                    pageName,
+                    strUtils.firstLetterDeCapped(componentListName),
+                    strUtils.firstLetterDeCapped(componentFieldName),
+                    strUtils.firstLetterDeCapped(pageName),
                     objectRepository
             );
-            return acquireNamedElementAmongst(elements, elementName);
+            return acquireNamedElementAmongst(elements, contextCheck(elementName));
         }
 
         /**
@@ -117,7 +110,7 @@ public class ElementAcquisition {
                 String elementName,
                 Object objectRepository
         ) {
-            log.new Info("Acquiring listed element named " +
+            logger.info(() -> "Acquiring listed element named " +
                     highlighted(BLUE, elementName) +
                     highlighted(GRAY," selected from ") +
                     highlighted(BLUE, componentListName) +
@@ -126,9 +119,7 @@ public class ElementAcquisition {
                     highlighted(GRAY," component on the ") +
                     highlighted(BLUE, pageName)
             );
-            pageName = strUtils.firstLetterDeCapped(pageName);
-            componentListName = strUtils.firstLetterDeCapped(componentListName);
-            List<WebComponent> componentList = getComponentsFromPage(componentListName, pageName, objectRepository);
+            List<WebComponent> componentList = getComponentsFromPage(strUtils.firstLetterDeCapped(componentListName), strUtils.firstLetterDeCapped(pageName), objectRepository);
             WebComponent component = acquireNamedComponentAmongst(componentList, componentName);
             return getElementFromComponent(elementName, component);
         }
@@ -151,16 +142,14 @@ public class ElementAcquisition {
                 String elementName,
                 Object objectRepository
         ) {
-            log.new Info("Acquiring exact listed element named " +
+            logger.info(() -> "Acquiring exact listed element named " +
                     highlighted(BLUE, elementName) +
                     highlighted(GRAY," selected from ") +
                     highlighted(BLUE, componentListName) +
                     highlighted(GRAY," component list on the ") +
                     highlighted(BLUE, pageName)
             );
-            pageName = strUtils.firstLetterDeCapped(pageName);
-            componentListName = strUtils.firstLetterDeCapped(componentListName);
-            List<WebComponent> components = getComponentsFromPage(componentListName, pageName, objectRepository);
+            List<WebComponent> components = getComponentsFromPage(strUtils.firstLetterDeCapped(componentListName), strUtils.firstLetterDeCapped(pageName), objectRepository);
             WebComponent component = acquireExactNamedComponentAmongst(components, componentName, elementName);
             return getElementFromComponent(elementName, component);
         }
@@ -184,21 +173,18 @@ public class ElementAcquisition {
                 String elementListName,
                 Object objectRepository
         ) {
-            log.new Info("Acquiring listed element named " +
+            logger.info(() -> "Acquiring listed element named " +
                     highlighted(BLUE, elementName) +
                     highlighted(GRAY," selected from ") +
                     highlighted(BLUE, componentListName) +
                     highlighted(GRAY," component list on the ") +
                     highlighted(BLUE, pageName)
             );
-            elementName = strUtils.contextCheck(elementName);
-            componentName = strUtils.contextCheck(componentName);
-            pageName = strUtils.firstLetterDeCapped(pageName);
-            componentListName = strUtils.firstLetterDeCapped(componentListName);
-            List<WebComponent> components = getComponentsFromPage(componentListName, pageName, objectRepository);
+            componentName = contextCheck(componentName);
+            List<WebComponent> components = getComponentsFromPage(strUtils.firstLetterDeCapped(componentListName), strUtils.firstLetterDeCapped(pageName), objectRepository);
             WebComponent component = acquireNamedComponentAmongst(components, componentName);
             List<WebElement> elements = getElementsFromComponent(elementListName, component);
-            return acquireNamedElementAmongst(elements, elementName);
+            return acquireNamedElementAmongst(elements, contextCheck(elementName));
         }
 
         /**
@@ -218,7 +204,7 @@ public class ElementAcquisition {
                 String pageName,
                 Object objectRepository
         ) {
-            log.new Info("Acquiring element by " +
+            logger.info(() -> "Acquiring element by " +
                     highlighted(BLUE, attributeName) +
                     highlighted(GRAY," attribute selected from ") +
                     highlighted(BLUE, listName) +
@@ -252,7 +238,7 @@ public class ElementAcquisition {
                 String pageName,
                 Object objectRepository
         ) {
-            log.new Info("Acquiring element by " +
+            logger.info(() -> "Acquiring element by " +
                     highlighted(BLUE, attributeName) +
                     highlighted(GRAY," attribute selected from ") +
                     highlighted(BLUE, listName) +
@@ -279,8 +265,8 @@ public class ElementAcquisition {
             List<Bundle<WebElement, String, String>> bundles = new ArrayList<>();
             for (Map<String, String> form : signForms) {
                 String inputName = form.get("Input Element");
-                String input = strUtils.contextCheck(form.get("Input"));
-                log.new Info("Filling " +
+                String input = contextCheck(form.get("Input"));
+                logger.info(() -> "Filling " +
                         highlighted(BLUE, inputName) +
                         highlighted(GRAY, " on the ") +
                         highlighted(BLUE, pageName) +
@@ -315,35 +301,27 @@ public class ElementAcquisition {
          * @return target element
          */
         public WebElement elementFromPage(String elementName, String pageName, JsonObject objectRepository, SelectorType... selectorTypes){
-            log.new Info("Acquiring element " +
+            return elementFromPage(elementName, pageName, JsonObjectRepository.of(objectRepository), selectorTypes);
+        }
+
+        /**
+         *
+         * Acquires an element by desired selector types from a given indexed object repository
+         *
+         * @param elementName target element name
+         * @param pageName page name that includes target element selectors
+         * @param objectRepository indexed object repository
+         * @param selectorTypes desired selector types
+         * @return target element
+         */
+        public WebElement elementFromPage(String elementName, String pageName, JsonObjectRepository objectRepository, SelectorType... selectorTypes){
+            logger.info(() -> "Acquiring element " +
                     highlighted(BLUE, elementName) +
                     highlighted(GRAY," from the ") +
                     highlighted(BLUE, pageName)
             );
-            JsonObject elementJson = getElementJson(elementName, pageName, objectRepository);
-            assert elementJson != null;
-
-            List<By> locators = new ArrayList<>();
-            for (SelectorType selectorType:selectorTypes) {
-                By locator;
-                switch (selectorType){
-                    case id ->          locator = By.id(elementJson.get("id").getAsString());
-                    case name ->        locator = By.name(elementJson.get("name").getAsString());
-                    case tagName ->     locator = By.tagName(elementJson.get("tagName").getAsString());
-                    case className ->   locator = By.className(elementJson.get("className").getAsString());
-                    case css ->         locator = By.cssSelector(elementJson.get("cssSelector").getAsString());
-                    case xpath ->       locator = By.xpath(elementJson.get("xpath").getAsString());
-                    case text ->{
-                        String text = elementJson.get("text").getAsString();
-                        locator = By.xpath("//*[text()='" +text+ "']");
-                    }
-                    default -> throw new EnumConstantNotPresentException(SelectorType.class, selectorType.name());
-                }
-                locators.add(locator);
-            }
-
-            ByAll byAll = new ByAll(new By[locators.size()]);
-            return driver.findElement(byAll);
+            By locator = objectRepository.element(elementName, pageName).locator(selectorTypes);
+            return getDriver().findElement(locator);
         }
 
         /**
@@ -357,35 +335,27 @@ public class ElementAcquisition {
          * @return target element list
          */
         public List<WebElement> elementsFromPage(String elementName, String pageName, JsonObject objectRepository, SelectorType... selectorTypes){
-            log.new Info("Acquiring element " +
+            return elementsFromPage(elementName, pageName, JsonObjectRepository.of(objectRepository), selectorTypes);
+        }
+
+        /**
+         *
+         * Acquires an element list by desired selector types from a given indexed object repository
+         *
+         * @param elementName target element name
+         * @param pageName page name that includes target element selectors
+         * @param objectRepository indexed object repository
+         * @param selectorTypes desired selector types
+         * @return target element list
+         */
+        public List<WebElement> elementsFromPage(String elementName, String pageName, JsonObjectRepository objectRepository, SelectorType... selectorTypes){
+            logger.info(() -> "Acquiring element " +
                     highlighted(BLUE, elementName) +
                     highlighted(GRAY," from the ") +
                     highlighted(BLUE, pageName)
             );
-            JsonObject elementJson = getElementJson(elementName, pageName, objectRepository);
-            assert elementJson != null;
-
-            List<By> locators = new ArrayList<>();
-            for (SelectorType selectorType:selectorTypes) {
-                By locator;
-                switch (selectorType){
-                    case id ->          locator = By.id(elementJson.get("id").getAsString());
-                    case name ->        locator = By.name(elementJson.get("name").getAsString());
-                    case tagName ->     locator = By.tagName(elementJson.get("tagName").getAsString());
-                    case className ->   locator = By.className(elementJson.get("className").getAsString());
-                    case css ->         locator = By.cssSelector(elementJson.get("cssSelector").getAsString());
-                    case xpath ->       locator = By.xpath(elementJson.get("xpath").getAsString());
-                    case text ->{
-                        String text = elementJson.get("text").getAsString();
-                        locator = By.xpath("//*[text()='" +text+ "']");
-                    }
-                    default -> throw new EnumConstantNotPresentException(SelectorType.class, selectorType.name());
-                }
-                locators.add(locator);
-            }
-
-            ByAll byAll = new ByAll(new By[locators.size()]);
-            return driver.findElements(byAll);
+            By locator = objectRepository.element(elementName, pageName).locator(selectorTypes);
+            return getDriver().findElements(locator);
         }
 
         /**
@@ -403,7 +373,7 @@ public class ElementAcquisition {
                 case xpath ->   locator = By.xpath(generateXPathByAttributes(attributePairs));
                 default -> throw new EnumConstantNotPresentException(PrimarySelectorType.class, selectorType.name());
             }
-            return driver.findElement(locator);
+            return getDriver().findElement(locator);
         }
 
         /**
@@ -421,7 +391,7 @@ public class ElementAcquisition {
                 case xpath ->   locator = By.xpath(generateXPathByAttributes(attributePairs));
                 default -> throw new EnumConstantNotPresentException(PrimarySelectorType.class, selectorType.name());
             }
-            return driver.findElements(locator);
+            return getDriver().findElements(locator);
         }
 
         /**
@@ -476,19 +446,7 @@ public class ElementAcquisition {
          * @return target element selectors as JsonObject
          */
         public static JsonObject getElementJson(String elementName, String pageName, JsonObject objectRepository){
-            JsonArray pages = objectRepository.getAsJsonArray("pages");
-
-            JsonObject pageJson = Objects.requireNonNull(
-                    pages.asList().stream().filter(
-                            page -> page.getAsJsonObject().get("name").getAsString().equals(pageName)
-                    ).findAny().orElse(null)
-            ).getAsJsonObject();
-
-            JsonArray elements = pageJson.getAsJsonArray("elements");
-            for (JsonElement elementJson:elements)
-                if (elementJson.getAsJsonObject().get("name").getAsString().equals(elementName))
-                    return elementJson.getAsJsonObject();
-            return null;
+            return JsonObjectRepository.of(objectRepository).elementJson(elementName, pageName);
         }
     }
 }
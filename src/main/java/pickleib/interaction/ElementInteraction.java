@@ -30,8 +30,8 @@ public class ElementInteraction extends WebUtilities {
      * @param url target url
      */
     public void getUrl(String url) {
-        url = strUtils.contextCheck(url);
-        driver.get(url);
+        url = contextCheck(url);
+        getDriver().get(url);
     }
 
     /**
@@ -41,7 +41,7 @@ public class ElementInteraction extends WebUtilities {
      * @param page target page
      */
     public void toPage(String page){
-        String url = driver.getCurrentUrl();
+        String url = getDriver().getCurrentUrl();
         String pageUrl = url + page;
         navigate(pageUrl);
     }
@@ -73,7 +73,7 @@ public class ElementInteraction extends WebUtilities {
      * @param handle target tab handle
      */
     public void switchToTabByHandle(String handle) {
-        handle = strUtils.contextCheck(handle);
+        handle = contextCheck(handle);
         String parentHandle = switchWindowByHandle(handle);
         ContextStore.put("parentHandle", parentHandle);
     }
@@ -97,9 +97,9 @@ public class ElementInteraction extends WebUtilities {
      * @param htmlPath target directory
      */
     public void getHTML(String htmlPath) {
-        htmlPath = strUtils.contextCheck(htmlPath);
-        log.new Info("Navigating to the email @" + htmlPath);
-        driver.get(htmlPath);
+        String path = contextCheck(htmlPath);
+        logger.info(() -> "Navigating to the email @" + path);
+        getDriver().get(path);
     }
 
     /**
@@ -119,10 +119,10 @@ public class ElementInteraction extends WebUtilities {
      */
     public void addLocalStorageValues(Map<String, String> form){
         for (String valueKey: form.keySet()) {
-            RemoteExecuteMethod executeMethod = new RemoteExecuteMethod(driver);
+            RemoteExecuteMethod executeMethod = new RemoteExecuteMethod(getDriver());
             RemoteWebStorage webStorage = new RemoteWebStorage(executeMethod);
             LocalStorage storage = webStorage.getLocalStorage();
-            storage.setItem(valueKey, strUtils.contextCheck(form.get(valueKey)));
+            storage.setItem(valueKey, contextCheck(form.get(valueKey)));
         }
     }
 
@@ -134,8 +134,8 @@ public class ElementInteraction extends WebUtilities {
      */
     public void addCookies(Map<String, String> cookies){
         for (String cookieName: cookies.keySet()) {
-            Cookie cookie = new Cookie(cookieName, strUtils.contextCheck(cookies.get(cookieName)));
-            driver.manage().addCookie(cookie);
+            Cookie cookie = new Cookie(cookieName, contextCheck(cookies.get(cookieName)));
+            getDriver().manage().addCookie(cookie);
         }
     }
 
@@ -147,7 +147,7 @@ public class ElementInteraction extends WebUtilities {
     /**
      * Deletes all cookies
      */
-    public void deleteCookies() {driver.manage().deleteAllCookies();}
+    public void deleteCookies() {getDriver().manage().deleteAllCookies();}
 
     /**
      *
@@ -173,7 +173,7 @@ public class ElementInteraction extends WebUtilities {
      * @param buttonText target text
      */
     public void clickByCssSelector(String buttonText) {
-        WebElement element = driver.findElement(By.cssSelector(buttonText));
+        WebElement element = getDriver().findElement(By.cssSelector(buttonText));
         clickElement(element, true);
     }
 
@@ -203,7 +203,7 @@ public class ElementInteraction extends WebUtilities {
      * @param pageName specified page instance name
      */
     public void clickStep(WebElement button, String buttonName, String pageName){
-        log.new Info("Clicking " +
+        logger.info(() -> "Clicking " +
                 highlighted(BLUE, buttonName) +
                 highlighted(GRAY," on the ") +
                 highlighted(BLUE, pageName)
@@ -222,7 +222,7 @@ public class ElementInteraction extends WebUtilities {
      * @param pageName specified page instance name
      */
     public void saveAttributeValue(String attributeName, WebElement element, String elementName, String pageName){
-        log.new Info("Acquiring " +
+        logger.info(() -> "Acquiring " +
                 highlighted(BLUE,attributeName) +
                 highlighted(GRAY," attribute of ") +
                 highlighted(BLUE, elementName) +
@@ -230,9 +230,9 @@ public class ElementInteraction extends WebUtilities {
                 highlighted(BLUE, pageName)
         );
         String attribute = element.getAttribute(attributeName);
-        log.new Info("Attribute -> " + highlighted(BLUE, attributeName) + highlighted(GRAY," : ") + highlighted(BLUE, attribute));
+        logger.info(() -> "Attribute -> " + highlighted(BLUE, attributeName) + highlighted(GRAY," : ") + highlighted(BLUE, attribute));
         ContextStore.put(elementName + "-" + attributeName, attribute);
-        log.new Info("Attribute saved to the ContextStore as -> '" +
+        logger.info(() -> "Attribute saved to the ContextStore as -> '" +
                 highlighted(BLUE, elementName + "-" + attributeName) +
                 highlighted(GRAY, "' : '") +
                 highlighted(BLUE, attribute) +
@@ -255,7 +255,7 @@ public class ElementInteraction extends WebUtilities {
             String attributeName,
             String elementName,
             String pageName){
-        log.new Info("Acquiring " +
+        logger.info(() -> "Acquiring " +
                 highlighted(BLUE,attributeName) +
                 highlighted(GRAY," attribute of ") +
                 highlighted(BLUE, elementName) +
@@ -264,9 +264,9 @@ public class ElementInteraction extends WebUtilities {
         );
 
         String attribute = element.getAttribute(attributeName);
-        log.new Info("Attribute -> " + highlighted(BLUE, attributeName) + highlighted(GRAY," : ") + highlighted(BLUE, attribute));
+        logger.info(() -> "Attribute -> " + highlighted(BLUE, attributeName) + highlighted(GRAY," : ") + highlighted(BLUE, attribute));
         ContextStore.put(elementName + "-" + attributeName, attribute);
-        log.new Info("Attribute saved to the ContextStore as -> '" +
+        logger.info(() -> "Attribute saved to the ContextStore as -> '" +
                 highlighted(BLUE, elementName + "-" + attributeName) +
                 highlighted(GRAY, "' : '") +
                 highlighted(BLUE, attribute) +
@@ -283,7 +283,7 @@ public class ElementInteraction extends WebUtilities {
      * @param pageName specified page instance name
      */
     public void center(WebElement element, String elementName, String pageName){
-        log.new Info("Clicking " +
+        logger.info(() -> "Clicking " +
                 highlighted(BLUE, elementName) +
                 highlighted(GRAY," on the ") +
                 highlighted(BLUE, pageName)
@@ -300,7 +300,7 @@ public class ElementInteraction extends WebUtilities {
      * @param pageName specified page instance name
      */
     public void clickTowards(WebElement element, String elementName, String pageName){
-        log.new Info("Clicking " +
+        logger.info(() -> "Clicking " +
                 highlighted(BLUE, elementName) +
                 highlighted(GRAY," on the ") +
                 highlighted(BLUE, pageName)
@@ -318,7 +318,7 @@ public class ElementInteraction extends WebUtilities {
      * @param pageName specified page instance name
      */
     public void performJSClick(WebElement element, String elementName, String pageName){
-        log.new Info("Clicking " +
+        logger.info(() -> "Clicking " +
                 highlighted(BLUE, elementName) +
                 highlighted(GRAY," on the ") +
                 highlighted(BLUE, pageName)
@@ -335,7 +335,7 @@ public class ElementInteraction extends WebUtilities {
      * @param pageName specified page instance name
      */
     public void clickIfPresent(WebElement element, String elementName, String pageName){
-        log.new Info("Clicking " +
+        logger.info(() -> "Clicking " +
                 highlighted(BLUE, elementName) +
                 highlighted(GRAY," on the ") +
                 highlighted(BLUE, pageName) +
@@ -344,7 +344,7 @@ public class ElementInteraction extends WebUtilities {
         try {
             if (elementIs(element, ElementState.displayed)) clickElement(element, true);
         }
-        catch (WebDriverException ignored){log.new Warning("The " + elementName + " was not present");}
+        catch (WebDriverException ignored){logger.warning(() -> "The " + elementName + " was not present");}
     }
 
     /**
@@ -357,17 +357,17 @@ public class ElementInteraction extends WebUtilities {
      * @param input input text
      */
     public void basicFill(WebElement inputElement, String inputName, String pageName, String input){
-        input = strUtils.contextCheck(input);
-        log.new Info("Filling " +
+        String text = contextCheck(input);
+        logger.info(() -> "Filling " +
                 highlighted(BLUE, inputName) +
                 highlighted(GRAY," on the ") +
                 highlighted(BLUE, pageName) +
                 highlighted(GRAY, " with the text: ") +
-                highlighted(BLUE, input)
+                highlighted(BLUE, text)
         );
         clearFillInput(
                 inputElement, //Element
-                input, //Input Text
+                text, //Input Text
                 false,
                 true
         );
@@ -383,21 +383,22 @@ public class ElementInteraction extends WebUtilities {
     public void fillForm(List<Bundle<WebElement, String, String>> bundles, String pageName){
         String inputName;
         String input;
+        boolean batch = batchFill();
         for (Bundle<WebElement, String, String> bundle : bundles) {
-            log.new Info("Filling " +
+            logger.info(() -> "Filling " +
                     highlighted(BLUE, bundle.theta()) +
                     highlighted(GRAY," on the ") +
                     highlighted(BLUE, pageName) +
                     highlighted(GRAY, " with the text: ") +
                     highlighted(BLUE, bundle.beta())
             );
-            pageName = strUtils.firstLetterDeCapped(pageName);
-            clearFillInput(bundle.alpha(), //Input Element
+            if (!batch) clearFillInput(bundle.alpha(), //Input Element
                     bundle.beta(), //Input Text
                     false,
                     true
             );
         }
+        if (batch) clearFillInputs(bundles, true);
     }
 
     /**
@@ -416,18 +417,18 @@ public class ElementInteraction extends WebUtilities {
             String inputName,
             String pageName,
             String inputText){
-        inputText = strUtils.contextCheck(inputText);
-        log.new Info("Filling " +
+        String text = contextCheck(inputText);
+        logger.info(() -> "Filling " +
                 highlighted(BLUE, inputName) +
                 highlighted(GRAY," i-frame element input on the ") +
                 highlighted(BLUE, pageName) +
                 highlighted(GRAY, " with the text: ") +
-                highlighted(BLUE, inputText)
+                highlighted(BLUE, text)
         );
         elementIs(iframe, ElementState.displayed);
-        driver.switchTo().frame(iframe);
-        clearFillInput(element, inputText,true,true);
-        driver.switchTo().parentFrame();
+        getDriver().switchTo().frame(iframe);
+        clearFillInput(element, text,true,true);
+        getDriver().switchTo().parentFrame();
     }
 
     /**
@@ -441,12 +442,12 @@ public class ElementInteraction extends WebUtilities {
      * @param pageName specified page instance name
      */
     public void clickIframeElement(WebElement iframe, WebElement element, String elementName, String iframeName, String pageName){
-        log.new Info("Clicking the i-frame element " +
+        logger.info(() -> "Clicking the i-frame element " +
                 highlighted(BLUE, elementName) +
                 highlighted(GRAY," on the ") +
                 highlighted(BLUE, pageName)
         );
-        driver.switchTo().frame(iframe);
+        getDriver().switchTo().frame(iframe);
         click(element);
     }
 
@@ -468,16 +469,17 @@ public class ElementInteraction extends WebUtilities {
             List<Map<String, String>> forms){
         String inputName;
         String input;
+        boolean batch = batchFill();
         for (Bundle<WebElement, String, String> bundle : bundles) {
-            log.new Info("Filling " +
+            logger.info(() -> "Filling " +
                     highlighted(BLUE, bundle.theta()) +
                     highlighted(GRAY," on the ") +
                     highlighted(BLUE, pageName) +
                     highlighted(GRAY, " with the text: ") +
                     highlighted(BLUE, bundle.beta())
             );
-            pageName = strUtils.firstLetterDeCapped(pageName);
-            driver.switchTo().frame(element);
+            if (batch) continue;
+            getDriver().switchTo().frame(element);
 
             clearFillInput(
                     bundle.alpha(),
@@ -486,6 +488,10 @@ public class ElementInteraction extends WebUtilities {
                     true
             );
         }
+        if (batch) {
+            getDriver().switchTo().frame(element);
+            clearFillInputs(bundles, true);
+        }
     }
 
     /**
@@ -498,14 +504,14 @@ public class ElementInteraction extends WebUtilities {
      * @param expectedText expected text
      */
     public void verifyText(WebElement element, String elementName, String pageName, String expectedText){
-        expectedText = strUtils.contextCheck(expectedText);
-        log.new Info("Performing text verification for " +
+        expectedText = contextCheck(expectedText);
+        logger.info(() -> "Performing text verification for " +
                 highlighted(BLUE, elementName) +
                 highlighted(GRAY," on the ") +
                 highlighted(BLUE, pageName)
         );
         Assert.assertEquals(expectedText, element.getText());
-        log.new Success("Text of the element " + elementName + " was verified!");
+        logger.success(() -> "Text of the element " + elementName + " was verified!");
     }
 
     /**
@@ -518,14 +524,14 @@ public class ElementInteraction extends WebUtilities {
      * @param expectedText expected text
      */
     public void verifyContainsText(WebElement element, String elementName, String pageName, String expectedText){
-        expectedText = strUtils.contextCheck(expectedText);
-        log.new Info("Performing text verification for " +
+        expectedText = contextCheck(expectedText);
+        logger.info(() -> "Performing text verification for " +
                 highlighted(BLUE, elementName) +
                 highlighted(GRAY," on the ") +
                 highlighted(BLUE, pageName)
         );
         Assert.assertTrue(element.getText().contains(expectedText));
-        log.new Success("Text of the element " + elementName + " was verified!");
+        logger.success(() -> "Text of the element " + elementName + " was verified!");
     }
 
     /**
@@ -540,7 +546,7 @@ public class ElementInteraction extends WebUtilities {
         for (Bundle<WebElement, String, String> bundle : bundles) {
             String elementName = bundle.beta();
             String expectedText = bundle.theta();
-            log.new Info("Performing text verification for " +
+            logger.info(() -> "Performing text verification for " +
                     highlighted(BLUE, elementName) +
                     highlighted(GRAY," on the ") +
                     highlighted(BLUE, pageName) +
@@ -548,7 +554,7 @@ public class ElementInteraction extends WebUtilities {
                     highlighted(BLUE, expectedText)
             );
             Assert.assertEquals("The " + bundle.alpha().getText() + " does not contain text '", expectedText, bundle.alpha().getText());
-            log.new Success("Text of the element" + bundle.alpha().getText() + " was verified!");
+            logger.success(() -> "Text of the element" + bundle.alpha().getText() + " was verified!");
 
         }
     }
@@ -562,20 +568,20 @@ public class ElementInteraction extends WebUtilities {
      * @param pageName specified page instance name
      */
     public void verifyPresence(WebElement element, String elementName, String pageName){
-        log.new Info("Verifying presence of " +
+        logger.info(() -> "Verifying presence of " +
                 highlighted(BLUE, elementName) +
                 highlighted(GRAY," on the ") +
                 highlighted(BLUE, pageName)
         );
         verifyElementState(element, ElementState.displayed);
-        log.new Success("Presence of the element " + elementName + " was verified!");
+        logger.success(() -> "Presence of the element " + elementName + " was verified!");
     }
 
     /**
      * Closes the browser
      */
     public void closeBrowser(){
-        driver.quit();
+        terminate();
     }
 
     /**
@@ -592,7 +598,7 @@ public class ElementInteraction extends WebUtilities {
             String elementName,
             String pageName,
             ElementState expectedState){
-        log.new Info("Verifying " +
+        logger.info(() -> "Verifying " +
                 highlighted(BLUE, expectedState.name()) +
                 highlighted(GRAY," state of ")+
                 highlighted(BLUE, elementName) +
@@ -600,7 +606,7 @@ public class ElementInteraction extends WebUtilities {
                 highlighted(BLUE, pageName)
         );
         verifyElementState(element, expectedState);
-        log.new Success("The element " + elementName + " was verified to be " + expectedState.name());
+        logger.success(() -> "The element " + elementName + " was verified to be " + expectedState.name());
     }
 
     /**
@@ -612,7 +618,7 @@ public class ElementInteraction extends WebUtilities {
      * @param pageName specified page instance name
      */
     public void waitUntilAbsence(WebElement element, String elementName, String pageName){
-        log.new Info("Waiting for the absence of " +
+        logger.info(() -> "Waiting for the absence of " +
                 highlighted(BLUE, elementName) +
                 highlighted(GRAY," on the ") +
                 highlighted(BLUE, pageName)
@@ -629,7 +635,7 @@ public class ElementInteraction extends WebUtilities {
      * @param pageName specified page instance name
      */
     public void waitUntilVisible(WebElement element, String elementName, String pageName) {
-        log.new Info("Waiting for the absence of " +
+        logger.info(() -> "Waiting for the absence of " +
                 highlighted(BLUE, elementName) +
                 highlighted(GRAY," on the ") +
                 highlighted(BLUE, pageName)
@@ -653,12 +659,12 @@ public class ElementInteraction extends WebUtilities {
             String pageName,
             String attributeName,
             String attributeValue) {
-        log.new Info("Waiting for the absence of " +
+        logger.info(() -> "Waiting for the absence of " +
                 highlighted(BLUE, elementName) +
                 highlighted(GRAY," on the ") +
                 highlighted(BLUE, pageName)
         );
-        try {wait.until((ExpectedConditions.attributeContains(element, attributeName, attributeValue)));}
+        try {getWait().until((ExpectedConditions.attributeContains(element, attributeName, attributeValue)));}
         catch (WebDriverException ignored) {}
     }
 
@@ -679,7 +685,7 @@ public class ElementInteraction extends WebUtilities {
             String attributeName,
             String attributeValue) {
 
-        log.new Info("Verifying " +
+        logger.info(() -> "Verifying " +
                 highlighted(BLUE, attributeName) +
                 highlighted(GRAY, " attribute of ") +
                 highlighted(BLUE, elementName) +
@@ -689,9 +695,9 @@ public class ElementInteraction extends WebUtilities {
         Assert.assertTrue(
                 "The " + attributeName + " attribute of element " + elementName + " could not be verified." +
                         "\nExpected value: " + attributeValue + "\nActual value: " + element.getAttribute(attributeName),
-                wait.until(ExpectedConditions.attributeContains(element, attributeName, attributeValue))
+                getWait().until(ExpectedConditions.attributeContains(element, attributeName, attributeValue))
         );
-        log.new Success("Value of '" + attributeName + "' attribute is verified to be '" + attributeValue + "'!");
+        logger.success(() -> "Value of '" + attributeName + "' attribute is verified to be '" + attributeValue + "'!");
     }
 
     /**
@@ -711,7 +717,7 @@ public class ElementInteraction extends WebUtilities {
             String pageName,
             String attributeValue) {
 
-        log.new Info("Verifying " +
+        logger.info(() -> "Verifying " +
                 highlighted(BLUE, attributeName) +
                 highlighted(GRAY, " attribute of ") +
                 highlighted(BLUE, elementName) +
@@ -723,7 +729,7 @@ public class ElementInteraction extends WebUtilities {
                         "\nExpected value: " + attributeValue + "\nActual value: " + element.getCssValue(attributeName),
                 attributeValue
         );
-        log.new Success("Value of '" + attributeName + "' attribute is verified to be '" + attributeValue + "'!");
+        logger.success(() -> "Value of '" + attributeName + "' attribute is verified to be '" + attributeValue + "'!");
     }
 
     /**
@@ -743,9 +749,9 @@ public class ElementInteraction extends WebUtilities {
 
         for (Bundle<WebElement, String, String> bundle : bundles) {
             String elementName = bundle.beta();
-            String expectedText = strUtils.contextCheck(bundle.theta());
+            String expectedText = contextCheck(bundle.theta());
 
-            log.new Info("Performing text verification for " +
+            logger.info(() -> "Performing text verification for " +
                     highlighted(BLUE, elementName) +
                     highlighted(GRAY," on the ") +
                     highlighted(BLUE, pageName) +
@@ -756,7 +762,7 @@ public class ElementInteraction extends WebUtilities {
                     "The " + elementName + " does not contain text '" + expectedText + "' ",
                     element.getText().contains(expectedText)
             );
-            log.new Success("Text of '" + elementName + "' verified as '" + expectedText + "'!");
+            logger.success(() -> "Text of '" + elementName + "' verified as '" + expectedText + "'!");
         }
     }
 
@@ -767,9 +773,9 @@ public class ElementInteraction extends WebUtilities {
      * @param url target url
      */
     public void verifyCurrentUrl(String url) {
-        url = strUtils.contextCheck(url);
-        log.new Info("The url contains " + url);
-        Assert.assertTrue("Current url does not contain the expected url!", driver.getCurrentUrl().contains(url));
+        String expectedUrl = contextCheck(url);
+        logger.info(() -> "The expectedUrl contains " + expectedUrl);
+        Assert.assertTrue("Current expectedUrl does not contain the expected expectedUrl!", getDriver().getCurrentUrl().contains(expectedUrl));
     }
 
     /**
@@ -791,14 +797,14 @@ public class ElementInteraction extends WebUtilities {
      * @param value Context value
      */
     public void updateContext(String key, String value){
-        value = strUtils.contextCheck(value);
-        log.new Info(
+        String contextValue = contextCheck(value);
+        logger.info(() ->
                 "Updating context: " +
                         highlighted(BLUE, key) +
                         highlighted(GRAY, " -> ") +
-                        highlighted(BLUE, value)
+                        highlighted(BLUE, contextValue)
         );
-        ContextStore.put(key, value);
+        ContextStore.put(key, contextValue);
     }
 
     /**
@@ -810,7 +816,7 @@ public class ElementInteraction extends WebUtilities {
      * @param pageName specified page instance name
      */
     public void pressKey(WebElement element, Keys key, String elementName, String pageName){
-        log.new Info("Filling the giving input " + elementName + " with " + key );
+        logger.info(() -> "Filling the giving input " + elementName + " with " + key );
         element.sendKeys(key);
     }
 
@@ -838,7 +844,7 @@ public class ElementInteraction extends WebUtilities {
         objectScript = "return " + objectScript;
         if (isEventFired(eventName, listenerScript)) {
             Object object = executeScript(objectScript);
-            log.new Info(object.toString());
+            logger.info(() -> object.toString());
         }
     }
 
@@ -856,17 +862,17 @@ public class ElementInteraction extends WebUtilities {
             String inputName,
             String pageName,
             String absoluteFilePath){
-        absoluteFilePath = strUtils.contextCheck(absoluteFilePath);
-        log.new Info("Filling " +
+        String filePath = contextCheck(absoluteFilePath);
+        logger.info(() -> "Filling " +
                 highlighted(BLUE, inputName) +
                 highlighted(GRAY," on the ") +
                 highlighted(BLUE, pageName) +
                 highlighted(GRAY, " with the text: ") +
-                highlighted(BLUE, absoluteFilePath)
+                highlighted(BLUE, filePath)
         );
         clearFillInput(
                 inputElement,
-                absoluteFilePath,
+                filePath,
                 false,
                 false
         );
@@ -882,16 +888,16 @@ public class ElementInteraction extends WebUtilities {
      * @param expectedValue expected value
      */
     public void listenGetAndVerifyObject(String listenerScript, String eventName, String nodeSource, String expectedValue)  {
-        log.new Info("Verifying value of '" + nodeSource + "' node");
+        logger.info(() -> "Verifying value of '" + nodeSource + "' node");
         String nodeScript = "return " + nodeSource;
         if (isEventFired(eventName, listenerScript)) {
             Object object = executeScript(nodeScript);
             Pattern sourcePattern = Pattern.compile(expectedValue);
             Matcher nodeValueMatcher = sourcePattern.matcher(object.toString());
             Assert.assertTrue("Node values do not match! Expected: " + object + ", Found: " + object, nodeValueMatcher.find());
-            log.new Success("Value of '" + nodeSource + "' is verified to be '" + object + "'");
+            logger.success(() -> "Value of '" + nodeSource + "' is verified to be '" + object + "'");
         }
-        else log.new Warning("'" + eventName + "' event is not fired!");
+        else logger.warning(() -> "'" + eventName + "' event is not fired!");
     }
 
     /**
@@ -908,7 +914,7 @@ public class ElementInteraction extends WebUtilities {
                 String nodeSource = nodeMap.get("Node Source");
                 String nodeValue = nodeMap.get("Node Value");
 
-                log.new Info("Verifying value of '" + highlighted(BLUE, nodeSource) + highlighted(GRAY, "' node"));
+                logger.info(() -> "Verifying value of '" + highlighted(BLUE, nodeSource) + highlighted(GRAY, "' node"));
                 String nodeScript = "return " + nodeSource;
                 Object object = executeScript(nodeScript);
 
@@ -916,7 +922,7 @@ public class ElementInteraction extends WebUtilities {
                 Matcher nodeValueMatcher = sourcePattern.matcher(object.toString());
 
                 Assert.assertTrue("Node values do not match! Expected: " + nodeValue + ", Found: " + object, nodeValueMatcher.find());
-                log.new Success("Value of '" + nodeSource + "' is verified to be '" + object + "'");
+                logger.success(() -> "Value of '" + nodeSource + "' is verified to be '" + object + "'");
             }
         }
         else throw new RuntimeException("'" + eventName + "' event is not fired!");
@@ -0,0 +1,84 @@
+package pickleib.utilities;
+
+import com.github.webdriverextensions.WebComponent;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+
+import java.util.*;
+
+/**
+ * Text and attributes of an element, captured in the browser
+ * (accessible names are not captured, they are computed by the driver, see WebElement.getAccessibleName())
+ *
+ * @param text visible text of the element (empty if the element is not rendered)
+ * @param attributes requested attributes of the element
+ */
+public record ElementSnapshot(String text, Map<String, String> attributes) {
+
+    /**
+     * Captures text & requested attributes of every given element with a single script.
+     * Attributes resolve like WebElement.getAttribute (property first, then attribute).
+     */
+    private static final String snapshotScript = """
+            /*pickleib:snapshot*/
+            var attributeNames = arguments[1];
+            function attribute(element, attributeName) {
+                var property = attributeName === 'class' ? element.className : element[attributeName];
+                if (typeof property === 'boolean') return property ? 'true' : null;
+                if (property !== undefined && property !== null && typeof property !== 'object' && typeof property !== 'function')
+                    return String(property);
+                return element.getAttribute(attributeName);
+            }
+            return Array.prototype.map.call(arguments[0], function (element) {
+                var attributes = {};
+                attributeNames.forEach(function (attributeName) {attributes[attributeName] = attribute(element, attributeName);});
+                return {
+                    text: element.getClientRects().length ? (element.innerText || '').trim() : '',
+                    attributes: attributes
+                };
+            });
+            """;
+
+    /**
+     * Captures snapshots of given elements in a single round trip
+     *
+     * @param executor javascript executor (driver)
+     * @param elements target elements (web components are resolved to their wrapped elements)
+     * @param attributeNames attributes to capture
+     * @return returns the snapshots, in the order of the given elements
+     */
+    @SuppressWarnings("unchecked")
+    public static List<ElementSnapshot> of(JavascriptExecutor executor, List<?> elements, String... attributeNames){
+        List<WebElement> targets = new ArrayList<>(elements.size());
+        for (Object element : elements) targets.add(unwrap(element));
+        if (targets.isEmpty()) return List.of();
+
+        Object response = executor.executeScript(snapshotScript, targets, List.of(attributeNames));
+        List<ElementSnapshot> snapshots = new ArrayList<>(targets.size());
+        for (Object snapshot : (List<Object>) response) {
+            Map<String, Object> values = (Map<String, Object>) snapshot;
+            Map<String, String> attributes = new HashMap<>();
+            ((Map<String, Object>) values.get("attributes")).forEach(
+                    (attributeName, value) -> attributes.put(attributeName, value == null ? null : value.toString())
+            );
+            snapshots.add(new ElementSnapshot(
+                    Objects.toString(values.get("text"), ""),
+                    attributes
+            ));
+        }
+        return snapshots;
+    }
+
+    /**
+     * Returns a captured attribute
+     *
+     * @param attributeName attribute name
+     * @return returns the attribute value, or null if the element does not have the attribute
+     */
+    public String attribute(String attributeName){return attributes.get(attributeName);}
+
+    private static WebElement unwrap(Object element){
+        if (element instanceof WebComponent component) return component.getWrappedWebElement();
+        return (WebElement) element;
+    }
+}
@@ -0,0 +1,90 @@
+package pickleib.utilities;
+
+import pickleib.exceptions.PickleibException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Per-class cache of field accessors, used to read page object & component fields by name
+ * (accessors of a class are resolved once, subsequent lookups are a single map access)
+ */
+public final class FieldAccessors {
+
+    private static final MethodType getterType = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * Field getters of each class, indexed by field name (fields of subclasses shadow the fields of superclasses)
+     */
+    private static final ClassValue<Map<String, MethodHandle>> accessors = new ClassValue<>() {
+        @Override
+        protected Map<String, MethodHandle> computeValue(Class<?> type) {
+            Map<String, MethodHandle> getters = new LinkedHashMap<>();
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            for (Class<?> owner = type; owner != null && owner != Object.class; owner = owner.getSuperclass())
+                for (Field field : owner.getDeclaredFields()) {
+                    if (field.isSynthetic() || getters.containsKey(field.getName())) continue;
+                    try {
+                        field.setAccessible(true);
+                        MethodHandle getter = lookup.unreflectGetter(field);
+                        if (Modifier.isStatic(field.getModifiers()))
+                            getter = MethodHandles.dropArguments(getter, 0, Object.class);
+                        getters.put(field.getName(), getter.asType(getterType));
+                    }
+                    catch (InaccessibleObjectException | IllegalAccessException ignored) {}
+                }
+            return Collections.unmodifiableMap(getters);
+        }
+    };
+
+    private FieldAccessors(){}
+
+    /**
+     * Reads a field of a given object
+     *
+     * @param target target object
+     * @param fieldName field name
+     * @return returns the field value, or null if the object has no such field
+     */
+    public static Object get(Object target, String fieldName){
+        MethodHandle getter = accessors.get(target.getClass()).get(fieldName);
+        if (getter == null) return null;
+        return read(getter, target, fieldName);
+    }
+
+    /**
+     * Checks if the class of a given object has a field
+     *
+     * @param target target object
+     * @param fieldName field name
+     * @return returns true if the field exists
+     */
+    public static boolean has(Object target, String fieldName){
+        return accessors.get(target.getClass()).containsKey(fieldName);
+    }
+
+    /**
+     * Reads every field of a given object
+     *
+     * @param target target object
+     * @return returns a map of field names & values
+     */
+    public static Map<String, Object> fields(Object target){
+        Map<String, MethodHandle> getters = accessors.get(target.getClass());
+        Map<String, Object> fields = new HashMap<>(getters.size() * 2);
+        getters.forEach((fieldName, getter) -> fields.put(fieldName, read(getter, target, fieldName)));
+        return fields;
+    }
+
+    private static Object read(MethodHandle getter, Object target, String fieldName){
+        try {return (Object) getter.invokeExact(target);}
+        catch (Throwable throwable) {
+            throw new PickleibException("Could not read the field '" + fieldName + "' of " + target.getClass().getSimpleName() + ": " + throwable.getMessage());
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package pickleib.utilities;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.pagefactory.ByAll;
+import pickleib.enums.SelectorType;
+import pickleib.exceptions.PickleibException;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable, indexed view of a json object repository
+ * Pages & elements are indexed by name and element locators are compiled once, when the repository is loaded
+ */
+public final class JsonObjectRepository {
+
+    /**
+     * Loaded repositories, by the identity of the json they were loaded from
+     * (entries are dropped once their json is garbage collected)
+     */
+    private static final Map<SourceKey, JsonObjectRepository> loaded = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<JsonObject> collectedSources = new ReferenceQueue<>();
+
+    /**
+     * Weak, identity based key of a source json
+     * (JsonObject equality & hash codes are deep, so they are neither cheap nor stable under mutation)
+     */
+    private static final class SourceKey extends WeakReference<JsonObject> {
+        private final int hash;
+
+        SourceKey(JsonObject source, ReferenceQueue<JsonObject> queue){
+            super(source, queue);
+            this.hash = System.identityHashCode(source);
+        }
+
+        @Override
+        public int hashCode() {return hash;}
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            return other instanceof SourceKey key && get() != null && get() == key.get();
+        }
+    }
+
+    /**
+     * Elements of each page, indexed by page name & element name
+     */
+    private final Map<String, Map<String, Element>> pages;
+
+    /**
+     * Indexed element of a page
+     *
+     * @param name element name
+     * @param json element selectors as JsonObject
+     * @param locators compiled locators, by selector type
+     */
+    public record Element(String name, JsonObject json, Map<SelectorType, By> locators) {
+
+        /**
+         * Acquires a locator that matches the element by any of the given selector types
+         *
+         * @param selectorTypes desired selector types
+         * @return returns the locator
+         */
+        public By locator(SelectorType... selectorTypes){
+            By[] selectors = new By[selectorTypes.length];
+            for (int index = 0; index < selectorTypes.length; index++) {
+                selectors[index] = locators.get(selectorTypes[index]);
+                if (selectors[index] == null)
+                    throw new PickleibException("Element " + name + " has no " + selectorTypes[index].name() + " selector!");
+            }
+            return selectors.length == 1 ? selectors[0] : new ByAll(selectors);
+        }
+    }
+
+    private JsonObjectRepository(JsonObject objectRepository){
+        Map<String, Map<String, Element>> pages = new HashMap<>();
+        for (JsonElement page : objectRepository.getAsJsonArray("pages")) {
+            JsonObject pageJson = page.getAsJsonObject();
+            Map<String, Element> elements = new HashMap<>();
+            for (JsonElement element : pageJson.getAsJsonArray("elements")) {
+                JsonObject elementJson = element.getAsJsonObject();
+                String elementName = elementJson.get("name").getAsString();
+                elements.putIfAbsent(elementName, new Element(elementName, elementJson, compile(elementJson)));
+            }
+            pages.putIfAbsent(pageJson.get("name").getAsString(), Collections.unmodifiableMap(elements));
+        }
+        this.pages = Collections.unmodifiableMap(pages);
+    }
+
+    /**
+     * Acquires the indexed repository of a given json object repository
+     * (the json is indexed on first use, later changes to the json object are not reflected)
+     *
+     * @param objectRepository json object repository
+     * @return returns the indexed repository
+     */
+    public static JsonObjectRepository of(JsonObject objectRepository){
+        for (Object key = collectedSources.poll(); key != null; key = collectedSources.poll()) loaded.remove(key);
+        return loaded.computeIfAbsent(
+                new SourceKey(objectRepository, collectedSources),
+                key -> new JsonObjectRepository(objectRepository)
+        );
+    }
+
+    /**
+     * Acquires an element of a given page
+     *
+     * @param elementName target element name
+     * @param pageName page name that includes target element
+     * @return returns the indexed element
+     */
+    public Element element(String elementName, String pageName){
+        Map<String, Element> elements = pages.get(pageName);
+        if (elements == null)
+            throw new PickleibException("Object repository does not contain a page named " + pageName + "!");
+        Element element = elements.get(elementName);
+        if (element == null)
+            throw new PickleibException("Page " + pageName + " does not contain an element named " + elementName + "!");
+        return element;
+    }
+
+    /**
+     * Acquires selectors of an element of a given page
+     *
+     * @param elementName target element name
+     * @param pageName page name that includes target element
+     * @return returns the element selectors as JsonObject, or null if the page or the element does not exist
+     */
+    public JsonObject elementJson(String elementName, String pageName){
+        Element element = pages.getOrDefault(pageName, Map.of()).get(elementName);
+        return element != null ? element.json() : null;
+    }
+
+    /**
+     * Compiles locators of every selector type defined for an element
+     *
+     * @param elementJson element selectors as JsonObject
+     * @return returns the locators, by selector type
+     */
+    private static Map<SelectorType, By> compile(JsonObject elementJson){
+        Map<SelectorType, By> locators = new EnumMap<>(SelectorType.class);
+        for (SelectorType selectorType : SelectorType.values()) {
+            String key = selectorType == SelectorType.css ? "cssSelector" : selectorType.name();
+            JsonElement selector = elementJson.get(key);
+            if (selector == null || selector.isJsonNull()) continue;
+            String value = selector.getAsString();
+            By locator;
+            switch (selectorType){
+                case id ->          locator = By.id(value);
+                case name ->        locator = By.name(value);
+                case tagName ->     locator = By.tagName(value);
+                case className ->   locator = By.className(value);
+                case css ->         locator = By.cssSelector(value);
+                case xpath ->       locator = By.xpath(value);
+                case text ->        locator = By.xpath("//*[text()='" + value + "']");
+                default -> throw new EnumConstantNotPresentException(SelectorType.class, selectorType.name());
+            }
+            locators.put(selectorType, locator);
+        }
+        return Collections.unmodifiableMap(locators);
+    }
+}
@@ -0,0 +1,102 @@
+package pickleib.utilities;
+
+import utils.Printer;
+import utils.PropertyUtility;
+
+import java.util.function.Supplier;
+
+/**
+ * Level-gated Printer facade, messages are only built (and printed) if their level is enabled, e.g.
+ * <pre>
+ * logger.info(() -> "Clicking " + highlighted(BLUE, buttonName));
+ * </pre>
+ * Nothing is built for a disabled level, non-capturing suppliers do not allocate either.
+ * The level is configured by the pickleib-log-level property (info by default)
+ */
+public class LazyPrinter {
+
+    /**
+     * Log levels, from the most to the least severe
+     */
+    public enum Level {error, warning, important, success, info}
+
+    private static volatile Level level = Level.valueOf(
+            PropertyUtility.properties.getProperty("pickleib-log-level", "info").toLowerCase()
+    );
+
+    private final Printer printer;
+
+    /**
+     * Creates a printer for a given class
+     *
+     * @param type class the messages are logged for
+     */
+    public LazyPrinter(Class<?> type){this.printer = new Printer(type);}
+
+    /**
+     * Sets the least severe level that is printed
+     *
+     * @param level target level
+     */
+    public static void setLevel(Level level){LazyPrinter.level = level;}
+
+    /**
+     * Returns the least severe level that is printed
+     *
+     * @return returns the level
+     */
+    public static Level getLevel(){return level;}
+
+    /**
+     * Checks if a given level is printed
+     *
+     * @param target target level
+     * @return returns true if the level is enabled
+     */
+    public boolean isEnabled(Level target){return target.ordinal() <= level.ordinal();}
+
+    /**
+     * Prints an info message, if the info level is enabled
+     *
+     * @param message message supplier
+     */
+    public void info(Supplier<?> message){
+        if (isEnabled(Level.info)) printer.new Info(message.get());
+    }
+
+    /**
+     * Prints a success message, if the success level is enabled
+     *
+     * @param message message supplier
+     */
+    public void success(Supplier<?> message){
+        if (isEnabled(Level.success)) printer.new Success(message.get());
+    }
+
+    /**
+     * Prints an important message, if the important level is enabled
+     *
+     * @param message message supplier
+     */
+    public void important(Supplier<?> message){
+        if (isEnabled(Level.important)) printer.new Important(message.get());
+    }
+
+    /**
+     * Prints a warning message, if the warning level is enabled
+     *
+     * @param message message supplier
+     */
+    public void warning(Supplier<?> message){
+        if (isEnabled(Level.warning)) printer.new Warning(message.get());
+    }
+
+    /**
+     * Prints an error message, if the error level is enabled
+     *
+     * @param message message supplier
+     */
+    public void error(Supplier<?> message){
+        if (isEnabled(Level.error)) printer.new Error(message.get());
+    }
+}
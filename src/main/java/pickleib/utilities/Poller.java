@@ -0,0 +1,190 @@
+package pickleib.utilities;
+
+import org.openqa.selenium.WebDriverException;
+import utils.PropertyUtility;
+
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Polling engine with exponential, jittered backoff, a per-call deadline and cancellation
+ */
+public class Poller {
+
+    private static final LazyPrinter log = new LazyPrinter(Poller.class);
+    private static final Properties properties = PropertyUtility.properties;
+
+    /**
+     * Last poll result of each thread
+     */
+    private static final ThreadLocal<PollResult<?>> lastResult = new ThreadLocal<>();
+
+    /**
+     * Total number of polls & waits performed by every poller
+     */
+    private static final LongAdder totalPolls = new LongAdder();
+    private static final LongAdder totalWaits = new LongAdder();
+
+    private final long timeout;
+    private final long initialInterval;
+    private final long maxInterval;
+    private final double multiplier;
+    private final double jitter;
+
+    /**
+     * Incremented by cancel(), a wait is cancelled if the count changes while it is ongoing
+     */
+    private final AtomicInteger cancellations = new AtomicInteger();
+
+    /**
+     * A single poll attempt, returns null (or false) while the awaited condition is not met
+     *
+     * @param <T> result type
+     */
+    @FunctionalInterface
+    public interface Attempt<T> {
+        T attempt() throws WebDriverException;
+    }
+
+    /**
+     * Outcome of a wait
+     *
+     * @param value value returned by the successful attempt, null if the wait timed out or was cancelled
+     * @param polls number of attempts made
+     * @param elapsed duration of the wait (ms)
+     * @param lastException last exception thrown by an attempt
+     * @param cancelled true if the wait was cancelled
+     * @param <T> result type
+     */
+    public record PollResult<T>(T value, int polls, long elapsed, WebDriverException lastException, boolean cancelled) {
+        public boolean satisfied(){return value != null;}
+    }
+
+    /**
+     * Creates a poller
+     *
+     * @param timeout duration (ms) after which a wait gives up
+     * @param initialInterval first delay (ms) between attempts
+     * @param maxInterval upper bound (ms) of the delay between attempts
+     * @param multiplier factor the delay grows by after each attempt
+     * @param jitter random deviation ratio (0 - 1) applied to each delay
+     */
+    public Poller(long timeout, long initialInterval, long maxInterval, double multiplier, double jitter){
+        this.timeout = timeout;
+        this.initialInterval = Math.max(1, initialInterval);
+        this.maxInterval = Math.max(this.initialInterval, maxInterval);
+        this.multiplier = Math.max(1, multiplier);
+        this.jitter = Math.min(1, Math.max(0, jitter));
+    }
+
+    /**
+     * Creates a poller with the backoff configured in properties
+     * (polling-interval, polling-max-interval, polling-multiplier & polling-jitter)
+     *
+     * @param timeout duration (ms) after which a wait gives up
+     * @return returns the poller
+     */
+    public static Poller withTimeout(long timeout){
+        return new Poller(
+                timeout,
+                Long.parseLong(properties.getProperty("polling-interval", "50")),
+                Long.parseLong(properties.getProperty("polling-max-interval", "500")),
+                Double.parseDouble(properties.getProperty("polling-multiplier", "1.5")),
+                Double.parseDouble(properties.getProperty("polling-jitter", "0.2"))
+        );
+    }
+
+    /**
+     * Repeats a given attempt until it returns a value, the deadline passes or the wait is cancelled
+     * (through cancel(), or by interrupting the polling thread)
+     * WebDriverExceptions thrown by the attempt are logged once per exception type and retried
+     *
+     * @param attempt poll attempt
+     * @return returns the poll result
+     * @param <T> result type
+     */
+    public <T> PollResult<T> poll(Attempt<T> attempt){
+        long initialTime = System.currentTimeMillis();
+        long deadline = initialTime + timeout;
+        long interval = initialInterval;
+        WebDriverException caughtException = null;
+        int polls = 0;
+        int cancellation = cancellations.get();
+        boolean cancelled = false;
+        T value = null;
+        do {
+            if (cancellations.get() != cancellation || Thread.currentThread().isInterrupted()) {
+                cancelled = true;
+                break;
+            }
+            polls++;
+            try {
+                T outcome = attempt.attempt();
+                if (outcome != null && !Boolean.FALSE.equals(outcome)) {
+                    value = outcome;
+                    break;
+                }
+            }
+            catch (WebDriverException webDriverException){
+                if (caughtException == null || !webDriverException.getClass().equals(caughtException.getClass()))
+                    log.warning(() -> "Iterating... (" + webDriverException.getClass().getName() + ")");
+                caughtException = webDriverException;
+            }
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) break;
+            try {Thread.sleep(Math.min(remaining, jittered(interval)));}
+            catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                cancelled = true;
+                break;
+            }
+            interval = Math.min(maxInterval, (long) (interval * multiplier));
+        }
+        while (true);
+        PollResult<T> result = new PollResult<>(
+                value,
+                polls,
+                System.currentTimeMillis() - initialTime,
+                caughtException,
+                cancelled
+        );
+        totalPolls.add(polls);
+        totalWaits.increment();
+        lastResult.set(result);
+        return result;
+    }
+
+    /**
+     * Cancels the ongoing waits of this poller, waits that start afterwards are not affected
+     */
+    public void cancel(){cancellations.incrementAndGet();}
+
+    /**
+     * Returns the last poll result of the current thread
+     *
+     * @return returns the poll result, or null if the thread did not poll yet
+     */
+    public static PollResult<?> lastResult(){return lastResult.get();}
+
+    /**
+     * Returns the total number of polls performed by every poller
+     *
+     * @return returns the poll count
+     */
+    public static long totalPolls(){return totalPolls.sum();}
+
+    /**
+     * Returns the total number of waits performed by every poller
+     *
+     * @return returns the wait count
+     */
+    public static long totalWaits(){return totalWaits.sum();}
+
+    private long jittered(long interval){
+        if (jitter == 0) return interval;
+        double deviation = ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        return Math.max(1, (long) (interval * (1 + deviation)));
+    }
+}
@@ -4,38 +4,292 @@ import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.remote.RemoteWebDriver;
-import utils.NumericUtilities;
 import utils.Printer;
+import utils.PropertyUtility;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static utils.StringUtilities.Color.*;
 
+/**
+ * Captures screenshots into the "screenshots" directory
+ * <p>
+ * Screenshots are encoded & written by a background writer (screenshot-async, true by default) with a bounded queue
+ * (screenshot-queue-size), the capturing thread writes itself while the queue is full.
+ * Pending screenshots are flushed on shutdown. The format is set by the screenshot-format property (png or jpg).
+ * <p>
+ * Frames recorded with recordFrame() are kept in memory, in a ring buffer per driver that holds the last
+ * screenshot-buffer-size frames (10 by default) within screenshot-buffer-memory-mb (20 by default).
+ * They are only written to disk by writeFrames(), e.g. once a scenario fails.
+ * Frame recording is opt-in: WebUtilities records a frame after every click, fill & navigation only if
+ * screenshot-record-frames is true, custom steps can call recordFrame() themselves.
+ */
 public class ScreenCaptureUtility {
     Printer log = new Printer(ScreenCaptureUtility.class);
-    NumericUtilities numeric = new NumericUtilities();
+
+    private static final File directory = new File("screenshots");
+    private static final DateTimeFormatter timestampFormat = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final AtomicLong sequence = new AtomicLong();
+    private static final Set<Future<?>> pendingWrites = ConcurrentHashMap.newKeySet();
+    private static final ExecutorService writer = new ThreadPoolExecutor(
+            1,
+            1,
+            0,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Integer.parseInt(PropertyUtility.properties.getProperty("screenshot-queue-size", "32"))),
+            runnable -> {
+                Thread thread = new Thread(runnable, "pickleib-screenshot-writer");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy()
+    );
+
+    private static final Map<RemoteWebDriver, FrameBuffer> frameBuffers = Collections.synchronizedMap(new WeakHashMap<>());
+
+    static {Runtime.getRuntime().addShutdownHook(new Thread(ScreenCaptureUtility::flush));}
+
+    /**
+     * Screenshot formats
+     */
+    public enum Format {
+        png, jpg;
+
+        /**
+         * Returns the format matching a given text (png, jpg or jpeg), unsupported formats fall back to png
+         *
+         * @param text format name
+         * @return returns the format
+         */
+        static Format fromString(String text){
+            for (Format format : values()) if (format.name().equalsIgnoreCase(text.trim())) return format;
+            if (text.trim().equalsIgnoreCase("jpeg")) return jpg;
+            new Printer(ScreenCaptureUtility.class).new Warning("The screenshot-format property must be png or jpg, using png instead of " + text + ".");
+            return png;
+        }
+    }
 
     /**
-     * Captures screen
+     * Captures screen & waits for the screenshot file to be written
+     * (use captureScreenAsync() to continue while the screenshot is written)
+     *
      * @param name screenshot name
      * @param driver session driver
-     * @return returns the screenshot file
+     * @return returns the written screenshot file, or null if the screen could not be captured or written
      */
     public File captureScreen(String name, RemoteWebDriver driver) {
-        try {
-            log.new Info("Capturing page...");
+        try {return captureScreenAsync(name, driver).join();}
+        catch (CompletionException exception) {return null;} // Reported by capture() or the writer
+    }
 
-            name += "#"+numeric.randomNumber(1,10000)+".jpg";
-            File sourceFile = new File("screenshots");
-            File fileDestination  = ((TakesScreenshot)driver).getScreenshotAs(OutputType.FILE);
-            FileUtils.copyFile(fileDestination, new File(sourceFile, name));
+    /**
+     * Captures screen, the screenshot file is written asynchronously
+     *
+     * @param name screenshot name
+     * @param driver session driver
+     * @return returns a future that completes with the screenshot file once it is written,
+     * or exceptionally if the screen could not be captured or written
+     */
+    public CompletableFuture<File> captureScreenAsync(String name, RemoteWebDriver driver) {
+        Format format = Format.fromString(PropertyUtility.properties.getProperty("screenshot-format", "png"));
+        return capture(new File(directory, fileName(name, format)), format, driver);
+    }
 
-            log.new Info("Screenshot saved as; "+name+" at the \"screenshots\" file.");
-            return fileDestination;
+    /**
+     * Captures screen & submits the screenshot to the writer
+     *
+     * @param file target file
+     * @param format target format
+     * @param driver session driver
+     * @return returns a future that completes with the screenshot file once it is written
+     */
+    private CompletableFuture<File> capture(File file, Format format, RemoteWebDriver driver) {
+        try {
+            log.new Info("Capturing page...");
+            byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            return submit(screenshot, file, format).thenApply(written -> {
+                log.new Info("Screenshot saved as; "+written.getName()+" at the \"screenshots\" file.");
+                return written;
+            });
         }
         catch (Exception gamma){
             log.new Error(YELLOW+"Could not capture screen"+RED+"\n\t"+gamma+RESET,gamma);
-            return null;
+            return CompletableFuture.failedFuture(gamma);
+        }
+    }
+
+    /**
+     * Recorded frame
+     *
+     * @param label frame label
+     * @param timestamp capture time
+     * @param screenshot png screenshot bytes
+     */
+    public record Frame(String label, LocalDateTime timestamp, byte[] screenshot) {}
+
+    /**
+     * Ring buffer of the most recent frames, bounded by frame count & total size
+     */
+    private static final class FrameBuffer {
+        private final int capacity = Integer.parseInt(PropertyUtility.properties.getProperty("screenshot-buffer-size", "10"));
+        private final long memoryLimit = Long.parseLong(PropertyUtility.properties.getProperty("screenshot-buffer-memory-mb", "20")) * 1024 * 1024;
+        private final Deque<Frame> frames = new ArrayDeque<>();
+        private long size;
+
+        synchronized void add(Frame frame){
+            frames.addLast(frame);
+            size += frame.screenshot().length;
+            while (frames.size() > capacity || (size > memoryLimit && frames.size() > 1))
+                size -= frames.removeFirst().screenshot().length;
+        }
+
+        synchronized List<Frame> drain(){
+            List<Frame> drained = new ArrayList<>(frames);
+            frames.clear();
+            size = 0;
+            return drained;
+        }
+    }
+
+    /**
+     * Records a frame into the in-memory ring buffer of a given driver, nothing is written to disk
+     *
+     * @param label frame label, e.g. the step name
+     * @param driver session driver
+     */
+    public void recordFrame(String label, RemoteWebDriver driver){
+        try {
+            byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            frameBuffers.computeIfAbsent(driver, key -> new FrameBuffer()).add(new Frame(label, LocalDateTime.now(), screenshot));
+        }
+        catch (Exception gamma) {log.new Warning("Could not record frame: " + gamma);}
+    }
+
+    /**
+     * Returns the frames recorded for a given driver, oldest first
+     *
+     * @param driver session driver
+     * @return returns the recorded frames
+     */
+    public static List<Frame> getFrames(RemoteWebDriver driver){
+        FrameBuffer buffer = frameBuffers.get(driver);
+        if (buffer == null) return List.of();
+        synchronized (buffer) {return List.copyOf(buffer.frames);}
+    }
+
+    /**
+     * Writes the frames recorded for a given driver (e.g. name#01-label#...png), and clears them
+     *
+     * @param name screenshot name
+     * @param driver session driver
+     * @return returns the frame files, written asynchronously (see flush())
+     */
+    public List<File> writeFrames(String name, RemoteWebDriver driver){
+        FrameBuffer buffer = frameBuffers.get(driver);
+        if (buffer == null) return List.of();
+        List<Frame> frames = buffer.drain();
+        Format format = Format.fromString(PropertyUtility.properties.getProperty("screenshot-format", "png"));
+        List<File> files = new ArrayList<>();
+        for (int index = 0; index < frames.size(); index++) {
+            Frame frame = frames.get(index);
+            File file = new File(directory, fileName(String.format("%s#%02d-%s", name, index + 1, frame.label().replaceAll("[^\\w.-]", "_")), format));
+            submit(frame.screenshot(), file, format);
+            files.add(file);
+        }
+        if (!files.isEmpty()) log.new Info(files.size() + " recorded frames of " + name + " are saved at the \"screenshots\" file.");
+        return files;
+    }
+
+    /**
+     * Discards the frames recorded for a given driver
+     *
+     * @param driver session driver
+     */
+    public static void clearFrames(RemoteWebDriver driver){
+        if (driver != null) frameBuffers.remove(driver);
+    }
+
+    /**
+     * Writes a screenshot through the background writer, or on the current thread if screenshot-async is false
+     *
+     * @param screenshot png screenshot bytes
+     * @param file target file
+     * @param format target format
+     * @return returns a future that completes with the file once it is written
+     */
+    private static CompletableFuture<File> submit(byte[] screenshot, File file, Format format){
+        CompletableFuture<File> write = new CompletableFuture<>();
+        if (Boolean.parseBoolean(PropertyUtility.properties.getProperty("screenshot-async", "true"))) {
+            pendingWrites.add(write);
+            write.whenComplete((written, exception) -> pendingWrites.remove(write));
+            writer.execute(() -> write(screenshot, file, format, write));
+        }
+        else write(screenshot, file, format, write);
+        return write;
+    }
+
+    /**
+     * Waits for the pending screenshots to be written
+     */
+    public static void flush(){
+        for (Future<?> write : Set.copyOf(pendingWrites)) {
+            try {write.get(30, TimeUnit.SECONDS);}
+            catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            catch (ExecutionException exception) {} // Reported by the writer
+            catch (TimeoutException exception) {
+                new Printer(ScreenCaptureUtility.class).new Warning("Screenshot was not written: " + exception);
+            }
+        }
+    }
+
+    /**
+     * Generates a unique file name, e.g. name#20240101-120000-000-1.png
+     *
+     * @param name screenshot name
+     * @param format screenshot format
+     * @return returns the file name
+     */
+    private static String fileName(String name, Format format){
+        return name + "#" + LocalDateTime.now().format(timestampFormat) + "-" + sequence.incrementAndGet() + "." + format.name();
+    }
+
+    /**
+     * Encodes & writes a screenshot
+     *
+     * @param screenshot png screenshot bytes
+     * @param file target file
+     * @param format target format
+     * @param write completed with the written file, or exceptionally if the file could not be written
+     */
+    private static void write(byte[] screenshot, File file, Format format, CompletableFuture<File> write){
+        try {
+            switch (format) {
+                case png -> FileUtils.writeByteArrayToFile(file, screenshot);
+                case jpg -> {
+                    BufferedImage image = ImageIO.read(new ByteArrayInputStream(screenshot));
+                    BufferedImage opaqueImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+                    opaqueImage.createGraphics().drawImage(image, 0, 0, null);
+                    FileUtils.forceMkdirParent(file);
+                    ImageIO.write(opaqueImage, "jpg", file);
+                }
+            }
+            write.complete(file);
+        }
+        catch (IOException | RuntimeException exception) {
+            new Printer(ScreenCaptureUtility.class).new Warning("Screenshot " + file.getName() + " could not be written: " + exception);
+            write.completeExceptionally(exception);
         }
     }
 }
@@ -0,0 +1,177 @@
+package pickleib.utilities;
+
+import context.ContextStore;
+import pickleib.exceptions.PickleibException;
+import utils.FileUtilities;
+import utils.PropertyUtility;
+import utils.StringUtilities;
+
+import java.util.*;
+
+/**
+ * Resolves context markers of input texts, each distinct input is compiled once into a cached resolution plan
+ * <p>
+ * An input that contains a single marker resolves to the marker value as a whole:
+ * CONTEXT-key (ContextStore value), RANDOM-LETTER-NUMBER-K=keyword-L=length (random text),
+ * UPLOAD-relative/path (absolute file path) or PROPERTY-name (property value)
+ * <p>
+ * Markers can also be embedded into text as placeholders, e.g. "Hello {{CONTEXT-name}}, your code is {{RANDOM-NUMBER-L=6}}"
+ * Placeholders that do not start with a marker prefix (e.g. "{{name}}" of a mustache template) are kept verbatim.
+ */
+public final class TemplateResolver {
+
+    /**
+     * Number of compiled templates kept in the cache, the least recently used template is evicted once it is full
+     */
+    private static final int cacheLimit = 10000;
+
+    /**
+     * Marker prefixes, a placeholder is compiled as a marker only if it starts with one of them
+     */
+    private static final List<String> markerPrefixes = List.of("CONTEXT-", "RANDOM-", "UPLOAD-", "PROPERTY-");
+
+    private static final Map<String, Template> templates = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Template> eldest) {return size() > cacheLimit;}
+            }
+    );
+    private static final StringUtilities strUtils = new StringUtilities();
+
+    private TemplateResolver(){}
+
+    /**
+     * Part of a compiled template
+     */
+    @FunctionalInterface
+    private interface Part {
+        String resolve();
+    }
+
+    /**
+     * Compiled template, an ordered list of parts
+     */
+    private record Template(List<Part> parts) {
+        String resolve(){
+            if (parts.size() == 1) return parts.get(0).resolve();
+            StringBuilder resolved = new StringBuilder();
+            for (Part part : parts) resolved.append(part.resolve());
+            return resolved.toString();
+        }
+    }
+
+    /**
+     * Resolves the context markers of a given input
+     *
+     * @param input input text
+     * @return returns the resolved text (null if the input is null)
+     */
+    public static String resolve(String input){
+        if (input == null) return null;
+        Template template = templates.get(input);
+        if (template == null) {
+            // Compiled outside the lock, concurrent compilations of an input are equivalent
+            template = compile(input);
+            Template cached = templates.putIfAbsent(input, template);
+            if (cached != null) template = cached;
+        }
+        return template.resolve();
+    }
+
+    /**
+     * Compiles a given input into a template
+     *
+     * @param input input text
+     * @return returns the compiled template
+     */
+    private static Template compile(String input){
+        List<Part> parts = new ArrayList<>();
+        int index = input.indexOf("{{");
+        if (index < 0) {
+            parts.add(marker(input));
+            return new Template(List.copyOf(parts));
+        }
+        int position = 0;
+        boolean markers = false;
+        while (index >= 0) {
+            int end = input.indexOf("}}", index + 2);
+            if (end < 0) break;
+            String text = input.substring(index + 2, end).trim();
+            if (isMarker(text)) {
+                markers = true;
+                if (index > position) parts.add(literal(input.substring(position, index)));
+                parts.add(marker(text));
+                position = end + 2;
+            }
+            else {
+                parts.add(literal(input.substring(position, end + 2)));
+                position = end + 2;
+            }
+            index = input.indexOf("{{", position);
+        }
+        // Inputs without marker placeholders (e.g. json or mustache templates) resolve as a whole
+        if (!markers) return new Template(List.of(marker(input)));
+        if (position < input.length()) parts.add(literal(input.substring(position)));
+        return new Template(List.copyOf(parts));
+    }
+
+    /**
+     * Compiles a single marker, text without a marker compiles to a literal
+     *
+     * @param text marker text
+     * @return returns the compiled part
+     */
+    private static Part marker(String text){
+        if (text.contains("CONTEXT-")) {
+            String key = after(text, "CONTEXT-");
+            return () -> {
+                Object value = ContextStore.get(key);
+                if (value == null) throw new PickleibException("ContextStore does not contain a value for " + key + "!");
+                return value.toString();
+            };
+        }
+        if (text.contains("RANDOM-")) {
+            boolean useLetters = text.contains("LETTER");
+            boolean useNumbers = text.contains("NUMBER");
+            String keyword = text.contains("KEYWORD") || text.contains("-K=") ? between(text, "-K=", "-") : "";
+            int length;
+            try {length = Integer.parseInt(after(text, "-L=").trim());}
+            catch (NumberFormatException exception) {
+                throw new PickleibException("Random marker has no valid length (-L=<length>): " + text);
+            }
+            return () -> strUtils.generateRandomString(keyword, length, useLetters, useNumbers);
+        }
+        if (text.contains("UPLOAD-")) {
+            String path = new FileUtilities().getAbsolutePath(after(text, "UPLOAD-"));
+            return () -> path;
+        }
+        if (text.contains("PROPERTY-")) {
+            String propertyName = after(text, "PROPERTY-");
+            return () -> PropertyUtility.properties.getProperty(propertyName, "NULL");
+        }
+        return literal(text);
+    }
+
+    /**
+     * Checks if a given placeholder text starts with a marker prefix
+     *
+     * @param text placeholder text
+     * @return returns true if the text is a marker
+     */
+    private static boolean isMarker(String text){
+        for (String prefix : markerPrefixes) if (text.startsWith(prefix)) return true;
+        return false;
+    }
+
+    private static Part literal(String text){return () -> text;}
+
+    private static String after(String text, String initiator){
+        return text.substring(text.indexOf(initiator) + initiator.length());
+    }
+
+    private static String between(String text, String initiator, String terminator){
+        String remainder = after(text, initiator);
+        int end = remainder.indexOf(terminator);
+        return end < 0 ? remainder : remainder.substring(0, end);
+    }
+}
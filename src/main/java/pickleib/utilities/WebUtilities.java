@@ -10,17 +10,22 @@ import org.openqa.selenium.logging.LogEntry;
 import org.openqa.selenium.logging.LogType;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.RemoteWebElement;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.PageFactory;
 import com.gargoylesoftware.htmlunit.*;
 import org.json.simple.JSONObject;
 import org.openqa.selenium.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import context.ContextStore;
 import java.time.Duration;
 import org.junit.Assert;
 import pickleib.driver.Driver;
 import pickleib.exceptions.PickleibException;
+import records.Bundle;
 import utils.*;
 import static utils.StringUtilities.Color.*;
 
@@ -40,6 +45,11 @@ public abstract class WebUtilities extends Driver {
      * Picklieb Logger
      */
     protected Printer log = new Printer(this.getClass());
+
+    /**
+     * Level-gated logger, messages are built only if their level is enabled
+     */
+    protected LazyPrinter logger = new LazyPrinter(this.getClass());
     protected StringUtilities strUtils = new StringUtilities();
     protected ObjectUtilities objectUtils = new ObjectUtilities();
 
@@ -59,15 +69,36 @@ public abstract class WebUtilities extends Driver {
     protected enum Locator {XPATH, CSS}
 
     /**
-     * Duration value for methods
+     * Duration value (ms) for methods, resolved when the instance is created (see Driver.getElementTimeout())
+     * Replaces the former static field, use Driver.getElementTimeout() & Driver.setElementTimeout() in static contexts
+     * The properties remain shared by every thread, they are only read
+     */
+    protected final long elementTimeout;
+
+    /**
+     * Poller of the waits of this instance
      */
-    protected static long elementTimeout;
+    private final Poller poller;
+
+    /**
+     * Records a frame after every click, fill & navigation if true (screenshot-record-frames, false by default)
+     * The frames are kept in memory and written once a scenario fails (see ScreenCaptureUtility.recordFrame())
+     */
+    protected final boolean recordFrames;
+
+    private static final ScreenCaptureUtility frameRecorder = new ScreenCaptureUtility();
 
     /**
      * Browser navigators
      */
     protected enum Navigation {backwards, forwards}
 
+    /**
+     * Input clearing strategies
+     * (chord: select-all & delete, script: native value reset with input/change events, backspace: one backspace per character)
+     */
+    protected enum ClearStrategy {chord, script, backspace}
+
     /**
      * Element states
      */
@@ -85,8 +116,10 @@ public abstract class WebUtilities extends Driver {
      *
      */
     protected WebUtilities(){
-        PageFactory.initElements(new WebDriverExtensionFieldDecorator(driver), this);
-        elementTimeout = Long.parseLong(properties.getProperty("element-timeout", "15000"));
+        PageFactory.initElements(new WebDriverExtensionFieldDecorator(getDriver()), this);
+        elementTimeout = getElementTimeout();
+        poller = Poller.withTimeout(elementTimeout);
+        recordFrames = Boolean.parseBoolean(properties.getProperty("screenshot-record-frames", "false"));
     }
 
     /**
@@ -94,9 +127,65 @@ public abstract class WebUtilities extends Driver {
      *
      */
     protected WebUtilities(WebDriver driver){
-        Driver.driver = (RemoteWebDriver) driver;
+        setDriver((RemoteWebDriver) driver);
         PageFactory.initElements(new WebDriverExtensionFieldDecorator(driver), this);
-        elementTimeout = Long.parseLong(properties.getProperty("element-timeout", "15000"));
+        elementTimeout = getElementTimeout();
+        poller = Poller.withTimeout(elementTimeout);
+        recordFrames = Boolean.parseBoolean(properties.getProperty("screenshot-record-frames", "false"));
+    }
+
+    /**
+     * Returns the poller of this instance, it gives up after the element timeout
+     *
+     * @return returns the poller
+     */
+    protected Poller poller(){
+        return poller;
+    }
+
+    /**
+     * Cancels the ongoing waits of this instance (e.g. from a watchdog thread), the waiting calls fail promptly
+     * Waits can also be cancelled by interrupting the waiting thread
+     */
+    public void cancelWaits(){
+        poller.cancel();
+    }
+
+    /**
+     * Records a frame of the current page if frame recording is enabled (screenshot-record-frames property)
+     *
+     * @param label frame label, e.g. the interaction name
+     */
+    protected void recordFrame(String label){
+        if (recordFrames) frameRecorder.recordFrame(label, getDriver());
+    }
+
+    /**
+     * Builds the exception of a wait that was not satisfied
+     *
+     * @param result poll result
+     * @param action description of the awaited action
+     * @return returns the exception to throw
+     */
+    private RuntimeException waitFailure(Poller.PollResult<?> result, String action){
+        logger.warning(() -> "Iterated " + result.polls() + " time(s)!");
+        if (result.cancelled())
+            return new PickleibException(action + " was cancelled after " + result.elapsed() + " ms!");
+        if (result.lastException() == null)
+            return new TimeoutException(action + " did not succeed within " + result.elapsed() + " ms!");
+        logger.warning(() -> result.lastException().getMessage());
+        return new PickleibException(result.lastException());
+    }
+
+    /**
+     * Captures text & given attributes of a list of elements in a single round trip
+     *
+     * @param elements target elements or components
+     * @param attributeNames attributes to capture
+     * @return returns the snapshots, in the order of the given elements
+     */
+    protected List<ElementSnapshot> snapshot(List<?> elements, String... attributeNames){
+        return ElementSnapshot.of(getDriver(), elements, attributeNames);
     }
 
     /**
@@ -128,11 +217,7 @@ public abstract class WebUtilities extends Driver {
      * @return returns the element
      */
     protected WebElement getElementFromPage(String elementFieldName, String pageName, Object objectRepository){
-        Map<String, Object> pageFields;
-        Object pageObject = objectUtils.getFields(objectRepository).get(pageName);
-        if (pageObject != null) pageFields = objectUtils.getFields(pageObject);
-        else throw new PickleibException("ObjectRepository does not contain an instance of " + pageName + " object!");
-        return (WebElement) pageFields.get(elementFieldName);
+        return (WebElement) FieldAccessors.get(getPageObject(pageName, objectRepository), elementFieldName);
     }
 
     /**
@@ -145,11 +230,21 @@ public abstract class WebUtilities extends Driver {
      */
     @SuppressWarnings("unchecked")
     protected List<WebElement> getElementsFromPage(String elementFieldName, String pageName, Object objectRepository){
-        Map<String, Object> pageFields;
-        Object pageObject = objectUtils.getFields(objectRepository).get(pageName);
-        if (pageObject != null) pageFields = objectUtils.getFields(pageObject);
-        else throw new PickleibException("ObjectRepository does not contain an instance of " + pageName + " object!");
-        return (List<WebElement>) pageFields.get(elementFieldName);
+        return (List<WebElement>) FieldAccessors.get(getPageObject(pageName, objectRepository), elementFieldName);
+    }
+
+    /**
+     * Acquires a page instance from a given object repository
+     *
+     * @param pageName name of the page instance
+     * @param objectRepository instance of an object that contains instances of every page
+     * @return returns the page instance
+     */
+    protected Object getPageObject(String pageName, Object objectRepository){
+        Object pageObject = FieldAccessors.get(objectRepository, pageName);
+        if (pageObject == null)
+            throw new PickleibException("ObjectRepository does not contain an instance of " + pageName + " object!");
+        return pageObject;
     }
 
     /**
@@ -169,8 +264,7 @@ public abstract class WebUtilities extends Driver {
             Object objectRepository){
         List<WebComponent> componentList = getComponentsFromPage(componentListName, pageName, objectRepository);
         WebComponent component = acquireNamedComponentAmongst(componentList, selectionName);
-        Map<String, Object> componentFields = objectUtils.getFields(component);
-        return (WebElement) componentFields.get(elementFieldName);
+        return (WebElement) FieldAccessors.get(component, elementFieldName);
     }
 
     /**
@@ -191,8 +285,7 @@ public abstract class WebUtilities extends Driver {
             Object objectRepository){
         List<WebComponent> componentList = getComponentsFromPage(componentListName, pageName, objectRepository);
         WebComponent component = acquireNamedComponentAmongst(componentList, selectionName);
-        Map<String, Object> componentFields = objectUtils.getFields(component);
-        return (List<WebElement>) componentFields.get(elementFieldName);
+        return (List<WebElement>) FieldAccessors.get(component, elementFieldName);
     }
 
     /**
@@ -212,8 +305,7 @@ public abstract class WebUtilities extends Driver {
             Object objectRepository){
         List<WebComponent> componentList = getComponentsFromPage(componentListName, pageName, objectRepository);
         WebComponent component = acquireNamedComponentAmongst(componentList, selectionName);
-        Map<String, Object> componentFields = objectUtils.getFields(component);
-        return (WebElement) componentFields.get(elementFieldName);
+        return (WebElement) FieldAccessors.get(component, elementFieldName);
     }
 
     /**
@@ -234,8 +326,7 @@ public abstract class WebUtilities extends Driver {
             Object objectRepository){
         List<WebComponent> componentList = getComponentsFromPage(componentListName, pageName, objectRepository);
         WebComponent component = acquireNamedComponentAmongst(componentList, selectionName);
-        Map<String, Object> componentFields = objectUtils.getFields(component);
-        return (List<WebElement>) componentFields.get(listFieldName);
+        return (List<WebElement>) FieldAccessors.get(component, listFieldName);
     }
 
     /**
@@ -255,8 +346,7 @@ public abstract class WebUtilities extends Driver {
             String pageName,
             Object objectRepository){
         WebComponent component = acquireExactNamedComponentAmongst(elementIdentifier, elementFieldName, componentListName, pageName, objectRepository);
-        Map<String, Object> componentFields = objectUtils.getFields(component);
-        return (WebElement) componentFields.get(elementFieldName);
+        return (WebElement) FieldAccessors.get(component, elementFieldName);
     }
 
     /**
@@ -268,11 +358,19 @@ public abstract class WebUtilities extends Driver {
      * @return returns map of fields
      */
     protected Map<String, Object> getComponentFieldsFromPage(String componentName, String pageName, Object objectRepository){
-        Map<String, Object> componentFields;
-        Object pageObject = objectUtils.getFields(objectRepository).get(pageName);
-        if (pageObject != null) componentFields = objectUtils.getFields(pageObject);
-        else throw new PickleibException("ObjectRepository does not contain an instance of " + pageName + " object!");
-        return objectUtils.getFields(componentFields.get(componentName));
+        return FieldAccessors.fields(getComponentFromPage(componentName, pageName, objectRepository));
+    }
+
+    /**
+     * Acquires a component from a given page
+     *
+     * @param componentName component name
+     * @param pageName name of the page instance
+     * @param objectRepository instance of an object that contains instances of every page
+     * @return returns the component
+     */
+    protected Object getComponentFromPage(String componentName, String pageName, Object objectRepository){
+        return FieldAccessors.get(getPageObject(pageName, objectRepository), componentName);
     }
 
     /**
@@ -285,12 +383,7 @@ public abstract class WebUtilities extends Driver {
      */
     @SuppressWarnings("unchecked")
     protected List<WebComponent> getComponentsFromPage(String componentListName, String pageName, Object objectRepository){
-        Map<String, Object> pageFields;
-        Map<String, Object> componentFields;
-        Object pageObject = objectUtils.getFields(objectRepository).get(pageName);
-        if (pageObject != null) pageFields = objectUtils.getFields(pageObject);
-        else throw new PickleibException("ObjectRepository does not contain an instance of " + pageName + " object!");
-        return (List<WebComponent>) pageFields.get(componentListName);
+        return (List<WebComponent>) FieldAccessors.get(getPageObject(pageName, objectRepository), componentListName);
     }
 
     /**
@@ -303,7 +396,7 @@ public abstract class WebUtilities extends Driver {
      * @return returns the element
      */
     protected WebElement getElementFromComponent(String elementFieldName, String componentName, String pageName, Object objectRepository){
-        return (WebElement) getComponentFieldsFromPage(componentName, pageName, objectRepository).get(elementFieldName);
+        return (WebElement) FieldAccessors.get(getComponentFromPage(componentName, pageName, objectRepository), elementFieldName);
     }
 
     /**
@@ -314,7 +407,7 @@ public abstract class WebUtilities extends Driver {
      * @return returns the element
      */
     protected WebElement getElementFromComponent(String elementFieldName, WebComponent component){
-        return (WebElement) getComponentFields(component).get(elementFieldName);
+        return (WebElement) FieldAccessors.get(component, elementFieldName);
     }
 
     /**
@@ -328,7 +421,7 @@ public abstract class WebUtilities extends Driver {
      */
     @SuppressWarnings("unchecked")
     protected List<WebElement> getElementsFromComponent(String listFieldName, String componentName, String pageName, Object objectRepository){
-        return (List<WebElement>) getComponentFieldsFromPage(componentName, pageName, objectRepository).get(listFieldName);
+        return (List<WebElement>) FieldAccessors.get(getComponentFromPage(componentName, pageName, objectRepository), listFieldName);
     }
 
     /**
@@ -340,7 +433,7 @@ public abstract class WebUtilities extends Driver {
      */
     @SuppressWarnings("unchecked")
     protected List<WebElement> getElementsFromComponent(String elementListFieldName, Object component){
-        return (List<WebElement>) getComponentFields(component).get(elementListFieldName);
+        return (List<WebElement>) FieldAccessors.get(component, elementListFieldName);
     }
 
     /**
@@ -350,7 +443,7 @@ public abstract class WebUtilities extends Driver {
      * @return returns the map of fields
      */
     protected Map<String, Object> getComponentFields(Object componentName){
-        return  objectUtils.getFields(componentName);
+        return FieldAccessors.fields(componentName);
     }
 
     /**
@@ -360,15 +453,17 @@ public abstract class WebUtilities extends Driver {
      */
     protected String navigate(String url){
         try {
-            log.new Info("Navigating to "+RESET+BLUE+url+RESET);
+            String target = url;
+            logger.info(() -> "Navigating to "+RESET+BLUE+target+RESET);
 
             if (!url.contains("http")) url = "https://"+url;
 
-            driver.get(url);
+            getDriver().get(url);
+            recordFrame("navigate");
         }
         catch (Exception gamma){
             Assert.fail("Unable to navigate to the \""+strUtils.highlighted(YELLOW, url)+"\"");
-            driver.quit();
+            getDriver().quit();
         }
         return url;
     }
@@ -380,7 +475,7 @@ public abstract class WebUtilities extends Driver {
      * @param height windows height
      */
     protected void setWindowSize(Integer width, Integer height) {
-        driver.manage().window().setSize(new Dimension(width,height));
+        getDriver().manage().window().setSize(new Dimension(width,height));
     }
 
     /**
@@ -390,13 +485,14 @@ public abstract class WebUtilities extends Driver {
      */
     protected void navigateBrowser(Navigation direction){
         try {
-            log.new Info("Navigating " + strUtils.highlighted(BLUE, direction.name()));
+            logger.info(() -> "Navigating " + strUtils.highlighted(BLUE, direction.name()));
 
             switch (direction) {
-                case forwards -> driver.navigate().forward();
-                case backwards -> driver.navigate().back();
+                case forwards -> getDriver().navigate().forward();
+                case backwards -> getDriver().navigate().back();
                 default -> throw new EnumConstantNotPresentException(Navigation.class, direction.name());
             }
+            recordFrame("navigate-" + direction.name());
         }
         catch (Exception e){
             Assert.fail("Unable to navigate browser \"" + strUtils.highlighted(YELLOW, direction.name())+"\" due to: " + e);
@@ -405,12 +501,12 @@ public abstract class WebUtilities extends Driver {
 
     @Deprecated(since = "1.2.7", forRemoval = true)
     protected WebElement waitUntilElementIsVisible(WebElement element, long initialTime){
-        driver.manage().timeouts().implicitlyWait(Duration.ofMillis(500));
+        getDriver().manage().timeouts().implicitlyWait(Duration.ofMillis(500));
         try {if (!element.isDisplayed()){throw new InvalidElementStateException("Element is not displayed!");}}
         catch (WebDriverException exception){
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(elementTimeout/1000));
+            getDriver().manage().timeouts().implicitlyWait(Duration.ofSeconds(elementTimeout/1000));
             if (!(System.currentTimeMillis()-initialTime > elementTimeout)){
-                log.new Warning("Recursion! (" + exception.getClass().getName() + ")");
+                logger.warning(() -> "Recursion! (" + exception.getClass().getName() + ")");
                 waitUntilElementIsVisible(element, initialTime);
             }
             else throw new NoSuchElementException("The element could not be located!");
@@ -419,17 +515,21 @@ public abstract class WebUtilities extends Driver {
     }
     /**
      * Scrolls through a list of elements until an element containing a given text is found
+     * (the texts are captured in a single round trip, the list is scrolled to the matching element, or to its end)
      *
      * @param list target element list
      * @param elementText target element text
      */
     protected void scrollInContainer(List<WebElement> list, String elementText){
-        for (WebElement element : list) {
-            scrollWithJS(element);
-            if (element.getText().contains(elementText)) {
-                break;
+        List<WebElement> elements = List.copyOf(list);
+        if (elements.isEmpty()) return;
+        List<ElementSnapshot> snapshots = snapshot(elements);
+        for (int index = 0; index < snapshots.size(); index++)
+            if (snapshots.get(index).text().contains(elementText)) {
+                scrollWithJS(elements.get(index));
+                return;
             }
-        }
+        scrollWithJS(elements.get(elements.size() - 1));
     }
 
     /**
@@ -439,34 +539,17 @@ public abstract class WebUtilities extends Driver {
      * @param scroll scrolls if true
      */
     protected void clickElement(WebElement element, Boolean scroll){
-        long initialTime = System.currentTimeMillis();
-        WebDriverException caughtException = null;
-        boolean timeout;
-        int counter = 0;
         elementIs(element, ElementState.enabled);
-        do {
-            timeout = System.currentTimeMillis()-initialTime > elementTimeout;
-            try {
-                if (scroll) centerElement(element).click();
-                else element.click();
-                return;
-            }
-            catch (WebDriverException webDriverException){
-                if (counter == 0) {
-                    log.new Warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException;
-                }
-                else if (!webDriverException.getClass().getName().equals(caughtException.getClass().getName())){
-                    log.new Warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException;
-                }
-                counter++;
-            }
+        Poller.PollResult<Boolean> result = poller().poll(() -> {
+            if (scroll) centerElement(element).click();
+            else element.click();
+            return true;
+        });
+        if (result.satisfied()) {
+            recordFrame("click");
+            return;
         }
-        while (!timeout);
-        if (counter > 0) log.new Warning("Iterated " + counter + " time(s)!");
-        log.new Warning(caughtException.getMessage());
-        throw new PickleibException(caughtException);
+        throw waitFailure(result, "Clicking " + element);
     }
 
     /**
@@ -475,33 +558,7 @@ public abstract class WebUtilities extends Driver {
      * @param element target element
      */
     protected void clickElement(WebElement element){
-        long initialTime = System.currentTimeMillis();
-        WebDriverException caughtException = null;
-        boolean timeout;
-        int counter = 0;
-        elementIs(element, ElementState.enabled);
-        do {
-            timeout = System.currentTimeMillis()-initialTime > elementTimeout;
-            try {
-                centerElement(element).click();
-                return;
-            }
-            catch (WebDriverException webDriverException){
-                if (counter == 0) {
-                    log.new Warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException;
-                }
-                else if (!webDriverException.getClass().getName().equals(caughtException.getClass().getName())){
-                    log.new Warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException;
-                }
-                counter++;
-            }
-        }
-        while (!timeout);
-        if (counter > 0) log.new Warning("Iterated " + counter + " time(s)!");
-        log.new Warning(caughtException.getMessage());
-        throw new PickleibException(caughtException);
+        clickElement(element, true);
     }
 
     /**
@@ -512,35 +569,19 @@ public abstract class WebUtilities extends Driver {
      */
     protected void clickIfPresent(WebElement element, Boolean scroll){
         try {
-            long initialTime = System.currentTimeMillis();
-            WebDriverException caughtException = null;
-            boolean timeout;
-            int counter = 0;
             elementIs(element, ElementState.enabled);
-            do {
-                timeout = System.currentTimeMillis()-initialTime > elementTimeout;
-                try {
-                    if (scroll) centerElement(element).click();
-                    else element.click();
-                    return;
-                }
-                catch (WebDriverException webDriverException){
-                    if (counter == 0) {
-                        log.new Warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                        caughtException = webDriverException;
-                    }
-                    else if (!webDriverException.getClass().getName().equals(caughtException.getClass().getName())){
-                        log.new Warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                        caughtException = webDriverException;
-                    }
-                    counter++;
-                }
+            Poller.PollResult<Boolean> result = poller().poll(() -> {
+                if (scroll) centerElement(element).click();
+                else element.click();
+                return true;
+            });
+            if (result.satisfied()) {
+                recordFrame("click");
+                return;
             }
-            while (!timeout);
-            if (counter > 0) log.new Warning("Iterated " + counter + " time(s)!");
-            log.new Warning(caughtException.getMessage());
+            logger.warning(() -> waitFailure(result, "Clicking " + element).getMessage());
         }
-        catch (WebDriverException exception){log.new Warning(exception.getMessage());}
+        catch (WebDriverException exception){logger.warning(() -> exception.getMessage());}
     }
 
     /**
@@ -557,6 +598,83 @@ public abstract class WebUtilities extends Driver {
         if (scroll) clearInputField(centerElement(inputElement)).sendKeys(inputText);
         else clearInputField(inputElement).sendKeys(inputText);
         if (verify) Assert.assertEquals(inputText, inputElement.getAttribute("value"));
+        recordFrame("fill");
+    }
+
+    /**
+     * Checks if forms are configured to be filled in batches (form-fill-mode property, "field" by default)
+     *
+     * @return returns true if the fill mode is "batch"
+     */
+    protected boolean batchFill(){
+        return properties.getProperty("form-fill-mode", "field").equalsIgnoreCase("batch");
+    }
+
+    /**
+     * Clears and fills a list of input elements in order
+     * Waits for every input to be displayed with a single script and verifies every value with a single read
+     *
+     * @param bundles list of bundles where input element, input text and input name are stored
+     * @param verify verifies the input values if true
+     */
+    @SuppressWarnings("unchecked")
+    protected void clearFillInputs(List<Bundle<WebElement, String, String>> bundles, Boolean verify){
+        List<WebElement> elements = new ArrayList<>();
+        for (Bundle<WebElement, String, String> bundle : bundles) elements.add(bundle.alpha());
+
+        List<String> hiddenInputs = new ArrayList<>();
+        Poller.PollResult<Boolean> displayed = poller().poll(() -> {
+            List<Boolean> states = (List<Boolean>) ((JavascriptExecutor) getDriver()).executeScript(displayedScript, elements);
+            hiddenInputs.clear();
+            for (int index = 0; index < states.size(); index++)
+                if (!states.get(index)) hiddenInputs.add(bundles.get(index).theta());
+            return hiddenInputs.isEmpty();
+        });
+        if (!displayed.satisfied())
+            Assert.fail("Inputs are not displayed: " + (hiddenInputs.isEmpty() ? "(" + displayed.lastException() + ")" : String.join(", ", hiddenInputs)));
+
+        for (Bundle<WebElement, String, String> bundle : bundles) {
+            try {clearInputField(bundle.alpha()).sendKeys(bundle.beta());}
+            catch (WebDriverException exception) {
+                throw new PickleibException("Could not fill " + bundle.theta() + ": " + exception.getMessage());
+            }
+        }
+
+        if (verify) {
+            List<ElementSnapshot> snapshots = snapshot(elements, "value");
+            List<String> mismatches = new ArrayList<>();
+            for (int index = 0; index < snapshots.size(); index++) {
+                Bundle<WebElement, String, String> bundle = bundles.get(index);
+                String value = snapshots.get(index).attribute("value");
+                if (!bundle.beta().equals(value))
+                    mismatches.add(bundle.theta() + " (expected: " + bundle.beta() + ", actual: " + value + ")");
+            }
+            if (!mismatches.isEmpty()) Assert.fail("Input values do not match: " + String.join(", ", mismatches));
+        }
+        recordFrame("fill");
+    }
+
+    /**
+     * Returns the displayed state of each given element
+     * (evaluates the isDisplayed atom that Selenium runs for WebElement.isDisplayed(), so both agree)
+     */
+    private static final String displayedScript =
+            "/*pickleib:displayed*/\n" +
+            "var isDisplayed = " + seleniumAtom("isDisplayed.js") + ";\n" +
+            "return Array.prototype.map.call(arguments[0], function (element) {return isDisplayed(element);});";
+
+    /**
+     * Reads a javascript atom bundled with the Selenium client
+     *
+     * @param atomName atom file name (e.g. isDisplayed.js)
+     * @return returns the atom function source
+     */
+    private static String seleniumAtom(String atomName){
+        try (InputStream atom = RemoteWebDriver.class.getResourceAsStream("/org/openqa/selenium/remote/" + atomName)) {
+            if (atom == null) throw new PickleibException("Selenium atom " + atomName + " could not be found!");
+            return new String(atom.readAllBytes(), StandardCharsets.UTF_8).trim();
+        }
+        catch (IOException exception) {throw new PickleibException(exception);}
     }
 
     /**
@@ -580,7 +698,7 @@ public abstract class WebUtilities extends Driver {
      */
     protected WebElement verifyElementState(WebElement element, ElementState state){
         Assert.assertTrue("Element is not in " + state.name() + " state!", elementIs(element, state));
-        log.new Success("Element state is verified to be: " + state.name());
+        logger.success(() -> "Element state is verified to be: " + state.name());
         return element;
     }
 
@@ -592,61 +710,32 @@ public abstract class WebUtilities extends Driver {
      * @return returns true if element is in the expected state
      */
     protected Boolean elementIs(WebElement element, @NotNull ElementState state){
-        driver.manage().timeouts().implicitlyWait(Duration.ofMillis(500));
-        long initialTime = System.currentTimeMillis();
-        String caughtException = null;
-        boolean timeout;
-        boolean condition = false;
-        boolean negativeCheck = false;
-        int counter = 0;
-        do {
-            timeout = System.currentTimeMillis()-initialTime > elementTimeout;
-            if (condition) return true;
-            else if (counter > 1 && negativeCheck) return true;
+        getDriver().manage().timeouts().implicitlyWait(Duration.ofMillis(500));
+        boolean negativeCheck = switch (state) {
+            case enabled, displayed, selected -> false;
+            case disabled, unselected, absent -> true;
+        };
+        int[] failures = {0};
+        Poller.PollResult<Boolean> result = poller().poll(() -> {
+            // A negative state is considered reached once the element repeatedly fails to resolve
+            if (negativeCheck && failures[0] > 1) return true;
             try {
-                switch (state) {
-                    case enabled -> {
-                        negativeCheck = false;
-                        condition = element.isEnabled();
-                    }
-                    case displayed -> {
-                        negativeCheck = false;
-                        condition = element.isDisplayed();
-                    }
-                    case selected -> {
-                        negativeCheck = false;
-                        condition = element.isSelected();
-                    }
-                    case disabled -> {
-                        negativeCheck = true;
-                        condition = !element.isEnabled();
-                    }
-                    case unselected -> {
-                        negativeCheck = true;
-                        condition = !element.isSelected();
-                    }
-                    case absent -> {
-                        negativeCheck = true;
-                        condition = !element.isDisplayed();
-                    }
-                    default -> throw new EnumConstantNotPresentException(ElementState.class, state.name());
-                }
+                return switch (state) {
+                    case enabled -> element.isEnabled();
+                    case displayed -> element.isDisplayed();
+                    case selected -> element.isSelected();
+                    case disabled -> !element.isEnabled();
+                    case unselected -> !element.isSelected();
+                    case absent -> !element.isDisplayed();
+                };
             }
             catch (WebDriverException webDriverException){
-                if (counter == 0) {
-                    log.new Warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException.getClass().getName();
-                }
-                else if (!webDriverException.getClass().getName().equals(caughtException)){
-                    log.new Warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException.getClass().getName();
-                }
-                counter++;
+                failures[0]++;
+                throw webDriverException;
             }
-        }
-        while (!timeout);
-        if (counter > 0) log.new Warning("Iterated " + counter + " time(s)!");
-        return false;
+        });
+        if (!result.satisfied() && result.lastException() != null) logger.warning(() -> "Iterated " + result.polls() + " time(s)!");
+        return result.satisfied();
     }
 
     /**
@@ -658,7 +747,7 @@ public abstract class WebUtilities extends Driver {
     protected WebElement hoverOver(WebElement element, Long initialTime){
         if (System.currentTimeMillis() - initialTime > elementTimeout) return null;
         centerElement(element);
-        Actions actions = new Actions(driver);
+        Actions actions = new Actions(getDriver());
         try {actions.moveToElement(element).build().perform();}
         catch (WebDriverException ignored) {hoverOver(element, initialTime);}
         return element;
@@ -671,32 +760,13 @@ public abstract class WebUtilities extends Driver {
      * @return returns the selected element
      */
     protected WebElement hoverOver(WebElement element){
-        long initialTime = System.currentTimeMillis();
-        Actions actions = new Actions(driver);
-        String caughtException = null;
-        boolean timeout;
-        int counter = 0;
-        do {
-            try {
-                centerElement(element);
-                actions.moveToElement(element).build().perform();
-                break;
-            }
-            catch (WebDriverException webDriverException){
-                if (counter == 0) {
-                    log.new Warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException.getClass().getName();
-                    counter++;
-                }
-                else if (!webDriverException.getClass().getName().equals(caughtException)){
-                    log.new Warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException.getClass().getName();
-                    counter++;
-                }
-                timeout = System.currentTimeMillis()-initialTime > elementTimeout;
-            }
-        }
-        while (timeout);
+        Actions actions = new Actions(getDriver());
+        Poller.PollResult<Boolean> result = poller().poll(() -> {
+            centerElement(element);
+            actions.moveToElement(element).build().perform();
+            return true;
+        });
+        if (!result.satisfied()) logger.warning(() -> "Iterated " + result.polls() + " time(s)!");
         return element;
     }
 
@@ -716,16 +786,17 @@ public abstract class WebUtilities extends Driver {
      * @return returns the selected component
      */
     protected  <T> T acquireNamedComponentAmongst(List<T> items, String selectionName){
-        log.new Info("Acquiring component called " + strUtils.highlighted(BLUE, selectionName));
-        boolean timeout = false;
-        long initialTime = System.currentTimeMillis();
-        while (!timeout){
-            for (T selection : items) {
-                String text = ((WebElement) selection).getText();
-                if (text.equalsIgnoreCase(selectionName) || text.contains(selectionName)) return selection;
+        logger.info(() -> "Acquiring component called " + strUtils.highlighted(BLUE, selectionName));
+        Poller.PollResult<T> result = poller().poll(() -> {
+            List<T> selections = List.copyOf(items);
+            List<ElementSnapshot> snapshots = snapshot(selections);
+            for (int index = 0; index < snapshots.size(); index++) {
+                String text = snapshots.get(index).text();
+                if (text.equalsIgnoreCase(selectionName) || text.contains(selectionName)) return selections.get(index);
             }
-            if (System.currentTimeMillis() - initialTime > elementTimeout) timeout = true;
-        }
+            return null;
+        });
+        if (result.satisfied()) return result.value();
         throw new NoSuchElementException("No component with text/name '" + selectionName + "' could be found!");
     }
 
@@ -745,18 +816,19 @@ public abstract class WebUtilities extends Driver {
             String attributeValue,
             String elementFieldName
     ){
-        log.new Info("Acquiring component by attribute " + strUtils.highlighted(BLUE, attributeName + " -> " + attributeValue));
-        boolean timeout = false;
-        long initialTime = System.currentTimeMillis();
-        while (!timeout){
-            for (T component : items) {
-                Map<String, Object> componentFields = objectUtils.getFields(component);
-                WebElement element = (WebElement) componentFields.get(elementFieldName);
-                String attribute = element.getAttribute(attributeName);
-                if (attribute.equals(attributeValue)) return component;
+        logger.info(() -> "Acquiring component by attribute " + strUtils.highlighted(BLUE, attributeName + " -> " + attributeValue));
+        Poller.PollResult<T> result = poller().poll(() -> {
+            List<T> components = List.copyOf(items);
+            List<WebElement> elements = new ArrayList<>();
+            for (T component : components) elements.add((WebElement) FieldAccessors.get(component, elementFieldName));
+            List<ElementSnapshot> snapshots = snapshot(elements, attributeName);
+            for (int index = 0; index < snapshots.size(); index++) {
+                String attribute = snapshots.get(index).attribute(attributeName);
+                if (attributeValue.equals(attribute)) return components.get(index);
             }
-            if (System.currentTimeMillis() - initialTime > elementTimeout) timeout = true;
-        }
+            return null;
+        });
+        if (result.satisfied()) return result.value();
         throw new NoSuchElementException("No component with " + attributeName + " : " + attributeValue + " could be found!");
     }
 
@@ -774,19 +846,20 @@ public abstract class WebUtilities extends Driver {
             String elementText,
             String targetElementFieldName
     ){
-        log.new Info("Acquiring component called " + strUtils.highlighted(BLUE, elementText));
-        boolean timeout = false;
-        long initialTime = System.currentTimeMillis();
-        while (!timeout){
-            for (Component component : items) {
-                Map<String, Object> componentFields = objectUtils.getFields(component);
-                WebElement element = (WebElement) componentFields.get(targetElementFieldName);
-                String text = element.getText();
-                String name = element.getAccessibleName();
-                if (text.equalsIgnoreCase(elementText) || name.equalsIgnoreCase(elementText)) return component;
+        logger.info(() -> "Acquiring component called " + strUtils.highlighted(BLUE, elementText));
+        Poller.PollResult<Component> result = poller().poll(() -> {
+            List<Component> components = List.copyOf(items);
+            List<WebElement> elements = new ArrayList<>();
+            for (Component component : components) elements.add((WebElement) FieldAccessors.get(component, targetElementFieldName));
+            List<ElementSnapshot> snapshots = snapshot(elements);
+            for (int index = 0; index < snapshots.size(); index++) {
+                if (snapshots.get(index).text().equalsIgnoreCase(elementText) ||
+                        elements.get(index).getAccessibleName().equalsIgnoreCase(elementText)
+                ) return components.get(index);
             }
-            if (System.currentTimeMillis() - initialTime > elementTimeout) timeout = true;
-        }
+            return null;
+        });
+        if (result.satisfied()) return result.value();
         throw new NoSuchElementException("No component with text/name '" + elementText + "' could be found!");
     }
 
@@ -801,19 +874,20 @@ public abstract class WebUtilities extends Driver {
             String componentListName,
             String pageName,
             Object objectRepository){
-        log.new Info("Acquiring component called " + strUtils.highlighted(BLUE, elementText));
-        boolean timeout = false;
-        long initialTime = System.currentTimeMillis();
-        while (!timeout){
-            for (WebComponent component : getComponentsFromPage(componentListName, pageName, objectRepository)) {
-                Map<String, Object> componentFields = objectUtils.getFields(component);
-                WebElement element = (WebElement) componentFields.get(elementFieldName);
-                String text = element.getText();
-                String name = element.getAccessibleName();
-                if (text.equalsIgnoreCase(elementText) || name.equalsIgnoreCase(elementText)) return component;
+        logger.info(() -> "Acquiring component called " + strUtils.highlighted(BLUE, elementText));
+        Poller.PollResult<WebComponent> result = poller().poll(() -> {
+            List<WebComponent> components = List.copyOf(getComponentsFromPage(componentListName, pageName, objectRepository));
+            List<WebElement> elements = new ArrayList<>();
+            for (WebComponent component : components) elements.add((WebElement) FieldAccessors.get(component, elementFieldName));
+            List<ElementSnapshot> snapshots = snapshot(elements);
+            for (int index = 0; index < snapshots.size(); index++) {
+                if (snapshots.get(index).text().equalsIgnoreCase(elementText) ||
+                        elements.get(index).getAccessibleName().equalsIgnoreCase(elementText)
+                ) return components.get(index);
             }
-            if (System.currentTimeMillis() - initialTime > elementTimeout) timeout = true;
-        }
+            return null;
+        });
+        if (result.satisfied()) return result.value();
         throw new NoSuchElementException("No component with text/name '" + elementText + "' could be found!");
     }
 
@@ -825,21 +899,19 @@ public abstract class WebUtilities extends Driver {
      * @return returns the selected element
      */
     protected WebElement acquireNamedElementAmongst(List<WebElement> items, String selectionName){
-        log.new Info("Acquiring element called " + strUtils.highlighted(BLUE, selectionName));
-        boolean timeout = false;
-        long initialTime = System.currentTimeMillis();
-        while (!timeout){
-            for (WebElement selection : items) {
-                String name = selection.getAccessibleName();
-                String text = selection.getText();
-                if (    name.equalsIgnoreCase(selectionName) ||
-                        name.contains(selectionName)         ||
-                        text.equalsIgnoreCase(selectionName) ||
-                        text.contains(selectionName)
-                ) return selection;
+        logger.info(() -> "Acquiring element called " + strUtils.highlighted(BLUE, selectionName));
+        Poller.PollResult<WebElement> result = poller().poll(() -> {
+            List<WebElement> selections = List.copyOf(items);
+            List<ElementSnapshot> snapshots = snapshot(selections);
+            for (int index = 0; index < snapshots.size(); index++) {
+                String text = snapshots.get(index).text();
+                if (text.equalsIgnoreCase(selectionName) || text.contains(selectionName)) return selections.get(index);
+                String name = selections.get(index).getAccessibleName();
+                if (name.equalsIgnoreCase(selectionName) || name.contains(selectionName)) return selections.get(index);
             }
-            if (System.currentTimeMillis() - initialTime > elementTimeout) timeout = true;
-        }
+            return null;
+        });
+        if (result.satisfied()) return result.value();
         throw new NoSuchElementException("No element with text/name '" + selectionName + "' could be found!");
     }
 
@@ -848,25 +920,23 @@ public abstract class WebUtilities extends Driver {
      */
     @Deprecated(since = "1.2.7", forRemoval = true)
     protected WebElement acquireNamedElementAmongst(@NotNull List<WebElement> items, String selectionName, long initialTime){
-        log.new Info("Acquiring element called " + strUtils.highlighted(BLUE, selectionName));
-        driver.manage().timeouts().implicitlyWait(Duration.ofMillis(500));
+        logger.info(() -> "Acquiring element called " + strUtils.highlighted(BLUE, selectionName));
+        getDriver().manage().timeouts().implicitlyWait(Duration.ofMillis(500));
         try {
-            for (WebElement selection : items) {
-                String name = selection.getAccessibleName();
-                String text = selection.getText();
-                if (
-                        name.equalsIgnoreCase(selectionName) ||
-                                name.contains(selectionName)         ||
-                                text.equalsIgnoreCase(selectionName) ||
-                                text.contains(selectionName)
-                ) return selection;
+            List<WebElement> selections = List.copyOf(items);
+            List<ElementSnapshot> snapshots = snapshot(selections);
+            for (int index = 0; index < snapshots.size(); index++) {
+                String text = snapshots.get(index).text();
+                if (text.equalsIgnoreCase(selectionName) || text.contains(selectionName)) return selections.get(index);
+                String name = selections.get(index).getAccessibleName();
+                if (name.equalsIgnoreCase(selectionName) || name.contains(selectionName)) return selections.get(index);
             }
             throw new NoSuchElementException("No element with text/name '" + selectionName + "' could be found!");
         }
         catch (WebDriverException exception){
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(elementTimeout/1000));
+            getDriver().manage().timeouts().implicitlyWait(Duration.ofSeconds(elementTimeout/1000));
             if (!(System.currentTimeMillis()-initialTime > elementTimeout)) {
-                log.new Warning("Recursion! (" + exception.getClass().getName() + ")");
+                logger.warning(() -> "Recursion! (" + exception.getClass().getName() + ")");
                 return acquireNamedElementAmongst(items, selectionName, initialTime);
             }
             throw exception;
@@ -878,18 +948,20 @@ public abstract class WebUtilities extends Driver {
      */
     @Deprecated(since = "1.2.7", forRemoval = true)
     protected  <T> T acquireNamedComponentAmongst(@NotNull List<T> items, String selectionName, long initialTime){
-        log.new Info("Acquiring element called " + strUtils.highlighted(BLUE, selectionName));
+        logger.info(() -> "Acquiring element called " + strUtils.highlighted(BLUE, selectionName));
         try {
-            for (T selection : items) {
-                String text = ((WebElement) selection).getText();
-                if (text.equalsIgnoreCase(selectionName) || text.contains(selectionName)) return selection;
+            List<T> selections = List.copyOf(items);
+            List<ElementSnapshot> snapshots = snapshot(selections);
+            for (int index = 0; index < snapshots.size(); index++) {
+                String text = snapshots.get(index).text();
+                if (text.equalsIgnoreCase(selectionName) || text.contains(selectionName)) return selections.get(index);
             }
             throw new NoSuchElementException("No component with text/name '" + selectionName + "' could be found!");
         }
         catch (WebDriverException exception){
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(elementTimeout/1000));
+            getDriver().manage().timeouts().implicitlyWait(Duration.ofSeconds(elementTimeout/1000));
             if (!(System.currentTimeMillis()-initialTime > elementTimeout)) {
-                log.new Warning("Recursion! (" + exception.getClass().getName() + ")");
+                logger.warning(() -> "Recursion! (" + exception.getClass().getName() + ")");
                 return acquireNamedComponentAmongst(items, selectionName, initialTime);
             }
             throw exception;
@@ -905,16 +977,17 @@ public abstract class WebUtilities extends Driver {
      * @return returns the selected element
      */
     protected WebElement acquireElementUsingAttributeAmongst(List<WebElement> items, String attributeName, String attributeValue){
-        log.new Info("Acquiring element called " + strUtils.markup(BLUE, attributeValue) + " using its " + strUtils.markup(BLUE, attributeName) + " attribute");
-        boolean condition = true;
-        long initialTime = System.currentTimeMillis();
-        while (condition){
-            for (WebElement selection : items) {
-                String attribute = selection.getAttribute(attributeName);
-                if (attribute != null && (attribute.equalsIgnoreCase(attributeValue) || attribute.contains(attributeValue))) return selection;
+        logger.info(() -> "Acquiring element called " + strUtils.markup(BLUE, attributeValue) + " using its " + strUtils.markup(BLUE, attributeName) + " attribute");
+        Poller.PollResult<WebElement> result = poller().poll(() -> {
+            List<WebElement> selections = List.copyOf(items);
+            List<ElementSnapshot> snapshots = snapshot(selections, attributeName);
+            for (int index = 0; index < snapshots.size(); index++) {
+                String attribute = snapshots.get(index).attribute(attributeName);
+                if (attribute != null && (attribute.equalsIgnoreCase(attributeValue) || attribute.contains(attributeValue))) return selections.get(index);
             }
-            if (System.currentTimeMillis() - initialTime > elementTimeout) condition = false;
-        }
+            return null;
+        });
+        if (result.satisfied()) return result.value();
         throw new NoSuchElementException("No element with the attributes '" + attributeName + " : " + attributeValue + "' could be found!");
     }
 
@@ -923,8 +996,8 @@ public abstract class WebUtilities extends Driver {
      */
     @Deprecated(since = "1.2.7", forRemoval = true)
     protected WebElement acquireElementUsingAttributeAmongst(@NotNull List<WebElement> elements, String attributeName, String attributeValue, long initialTime){
-        log.new Info("Acquiring element called " + strUtils.markup(BLUE, attributeValue) + " using its " + strUtils.markup(BLUE, attributeName) + " attribute");
-        driver.manage().timeouts().implicitlyWait(Duration.ofMillis(500));
+        logger.info(() -> "Acquiring element called " + strUtils.markup(BLUE, attributeValue) + " using its " + strUtils.markup(BLUE, attributeName) + " attribute");
+        getDriver().manage().timeouts().implicitlyWait(Duration.ofMillis(500));
         try {
             for (WebElement selection : elements) {
                 String attribute = selection.getAttribute(attributeName);
@@ -933,9 +1006,9 @@ public abstract class WebUtilities extends Driver {
             throw new NoSuchElementException("No element with the attributes '" + attributeName + " : " + attributeValue + "' could be found!");
         }
         catch (WebDriverException exception){
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(elementTimeout/1000));
+            getDriver().manage().timeouts().implicitlyWait(Duration.ofSeconds(elementTimeout/1000));
             if (!(System.currentTimeMillis()-initialTime > elementTimeout)) {
-                log.new Warning("Recursion! (" + exception.getClass().getName() + ")");
+                logger.warning(() -> "Recursion! (" + exception.getClass().getName() + ")");
                 return acquireElementUsingAttributeAmongst(elements, attributeName, attributeValue, initialTime);
             }
             throw exception;
@@ -948,14 +1021,14 @@ public abstract class WebUtilities extends Driver {
      * @param handle target tab/window
      */
     protected String switchWindowByHandle(@Nullable String handle){
-        log.new Info("Switching to the next tab");
-        String parentWindowHandle = driver.getWindowHandle();
+        logger.info(() -> "Switching to the next tab");
+        String parentWindowHandle = getDriver().getWindowHandle();
         if (handle == null)
-            for (String windowHandle: driver.getWindowHandles()) {
+            for (String windowHandle: getDriver().getWindowHandles()) {
                 if (!windowHandle.equalsIgnoreCase(parentWindowHandle))
-                    driver = (RemoteWebDriver) driver.switchTo().window((windowHandle));
+                    getDriver().switchTo().window((windowHandle));
             }
-        else driver = (RemoteWebDriver) driver.switchTo().window(handle);
+        else getDriver().switchTo().window(handle);
         return parentWindowHandle;
     }
 
@@ -965,11 +1038,11 @@ public abstract class WebUtilities extends Driver {
      * @param tabIndex target tab/window
      */
     protected String switchWindowByIndex(Integer tabIndex){
-        log.new Info("Switching the tab with the window index: " + tabIndex);
-        String parentWindowHandle = driver.getWindowHandle();
-        List<String> handles = new ArrayList<>(driver.getWindowHandles());
+        logger.info(() -> "Switching the tab with the window index: " + tabIndex);
+        String parentWindowHandle = getDriver().getWindowHandle();
+        List<String> handles = new ArrayList<>(getDriver().getWindowHandles());
         String handle = handles.get(tabIndex);
-        driver = (RemoteWebDriver) driver.switchTo().window(handle);
+        getDriver().switchTo().window(handle);
         return parentWindowHandle;
     }
 
@@ -987,11 +1060,56 @@ public abstract class WebUtilities extends Driver {
      * @param element target element
      */
     protected WebElement clearInputField(@NotNull WebElement element){
-        int textLength = element.getAttribute("value").length();
-        for(int i = 0; i < textLength; i++){element.sendKeys(Keys.BACK_SPACE);}
+        return clearInputField(
+                element,
+                ClearStrategy.valueOf(properties.getProperty("input-clear-strategy", "chord").toLowerCase())
+        );
+    }
+
+    /**
+     * Clears an input element with a given strategy, falls back to backspace clearing if the field is not empty afterwards
+     *
+     * @param element target element
+     * @param strategy clearing strategy
+     */
+    protected WebElement clearInputField(@NotNull WebElement element, @NotNull ClearStrategy strategy){
+        String remaining = switch (strategy) {
+            case chord -> {
+                // Drivers that do not report a platform are assumed to run on the local platform
+                Platform platform = getDriver().getCapabilities().getPlatformName();
+                if (platform == null) platform = Platform.getCurrent();
+                Keys modifier = platform != null && platform.is(Platform.MAC) ? Keys.COMMAND : Keys.CONTROL;
+                element.sendKeys(Keys.chord(modifier, "a"), Keys.DELETE);
+                yield element.getAttribute("value");
+            }
+            case script -> (String) ((JavascriptExecutor) getDriver()).executeScript(clearScript, element);
+            case backspace -> element.getAttribute("value");
+        };
+        if (remaining == null || remaining.isEmpty()) return element;
+        if (strategy != ClearStrategy.backspace)
+            logger.warning(() -> "Could not clear the input with " + strategy.name() + " strategy, clearing with backspaces...");
+        for(int i = 0; i < remaining.length(); i++){element.sendKeys(Keys.BACK_SPACE);}
         return element;
     }
 
+    /**
+     * Resets the value of an input through the native value setter (so framework bound inputs register the change),
+     * dispatches input & change events and returns the remaining value
+     */
+    private static final String clearScript = """
+            /*pickleib:clear*/
+            var element = arguments[0];
+            var prototype = element instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype
+                    : element instanceof HTMLSelectElement ? HTMLSelectElement.prototype : HTMLInputElement.prototype;
+            var descriptor = Object.getOwnPropertyDescriptor(prototype, 'value');
+            if (descriptor && descriptor.set && element instanceof prototype.constructor) descriptor.set.call(element, '');
+            else if (element.isContentEditable) element.textContent = '';
+            else element.value = '';
+            element.dispatchEvent(new Event('input', {bubbles: true}));
+            element.dispatchEvent(new Event('change', {bubbles: true}));
+            return element.isContentEditable ? element.textContent : element.value;
+            """;
+
     /**
      * Acquires an element by its text
      *
@@ -999,7 +1117,7 @@ public abstract class WebUtilities extends Driver {
      */
     protected WebElement getElementByText(String elementText){
         try {
-            return driver.findElement(By.xpath("//*[text()='" +elementText+ "']"));
+            return getDriver().findElement(By.xpath("//*[text()='" +elementText+ "']"));
         }
         catch (ElementNotFoundException | NoSuchElementException exception){
             throw new NoSuchElementException(GRAY+exception.getMessage()+RESET);
@@ -1013,7 +1131,7 @@ public abstract class WebUtilities extends Driver {
      */
     protected WebElement getElementContainingText(String elementText){
         try {
-            return driver.findElement(By.xpath("//*[contains(text(), '" +elementText+ "')]"));
+            return getDriver().findElement(By.xpath("//*[contains(text(), '" +elementText+ "')]"));
         }
         catch (ElementNotFoundException | NoSuchElementException exception){
             throw new NoSuchElementException(GRAY+exception.getMessage()+RESET);
@@ -1030,7 +1148,7 @@ public abstract class WebUtilities extends Driver {
 
         centerElement(element);
 
-        Actions action = new Actions(driver);
+        Actions action = new Actions(getDriver());
         action.moveToElement(element)
                 .clickAndHold(element)
                 .moveToElement(destinationElement)
@@ -1052,7 +1170,7 @@ public abstract class WebUtilities extends Driver {
 
         centerElement(element);
 
-        Actions action = new Actions(driver);
+        Actions action = new Actions(getDriver());
         action.moveToElement(element)
                 .clickAndHold(element)
                 .dragAndDropBy(element, xOffset, yOffset)
@@ -1073,7 +1191,7 @@ public abstract class WebUtilities extends Driver {
 
         centerElement(element);
 
-        Actions action = new Actions(driver);
+        Actions action = new Actions(getDriver());
         action.moveToElement(element)
                 .clickAndHold(element)
                 .moveToElement(element,xOffset,yOffset)
@@ -1088,7 +1206,9 @@ public abstract class WebUtilities extends Driver {
      *
      */
     protected void refreshThePage(){
-        driver.navigate().refresh();}
+        getDriver().navigate().refresh();
+        recordFrame("refresh");
+    }
 
     /**
      * Click coordinates specified by the given offsets from the center of a given element
@@ -1102,7 +1222,7 @@ public abstract class WebUtilities extends Driver {
 
         if (scroll) centerElement(element);
 
-        Actions builder = new org.openqa.selenium.interactions.Actions(driver);
+        Actions builder = new org.openqa.selenium.interactions.Actions(getDriver());
         builder
                 .moveToElement(element, xOffset, yOffset)
                 .click()
@@ -1115,7 +1235,7 @@ public abstract class WebUtilities extends Driver {
      *
      * @return returns the alert
      */
-    protected Alert getAlert(){return driver.switchTo().alert();}
+    protected Alert getAlert(){return getDriver().switchTo().alert();}
 
     /**
      * Uploads a given file
@@ -1142,7 +1262,7 @@ public abstract class WebUtilities extends Driver {
      */
     //This method makes the thread wait for a certain while
     protected void waitFor(double seconds){
-        if (seconds > 1) log.new Info("Waiting for "+BLUE+seconds+GRAY+" seconds");
+        if (seconds > 1) logger.info(() -> "Waiting for "+BLUE+seconds+GRAY+" seconds");
         try {Thread.sleep((long) (seconds* 1000L));}
         catch (InterruptedException exception){Assert.fail(GRAY+exception.getLocalizedMessage()+RESET);}
     }
@@ -1155,28 +1275,49 @@ public abstract class WebUtilities extends Driver {
      */
     //This method scrolls an element to the center of the view
     protected WebElement centerElement(WebElement element){
-        String scrollScript = "var viewPortHeight = Math.max(document.documentElement.clientHeight, window.innerHeight || 0);"
-                + "var elementTop = arguments[0].getBoundingClientRect().top;"
-                + "window.scrollBy(0, elementTop-(viewPortHeight/2));";
-
-        ((JavascriptExecutor) driver).executeScript(scrollScript, element);
-
-        waitFor(0.3);
+        ((JavascriptExecutor) getDriver()).executeAsyncScript(
+                centerScript,
+                element,
+                Long.parseLong(properties.getProperty("scroll-settle-timeout", "300"))
+        );
         return element;
     }
 
+    /**
+     * Scrolls the element to the center of the view, then calls back once its bounding rect
+     * stays still for two consecutive animation frames (or once the settle timeout passes)
+     */
+    private static final String centerScript = """
+            /*pickleib:center*/
+            var element = arguments[0], timeout = arguments[1], callback = arguments[arguments.length - 1];
+            var viewPortHeight = Math.max(document.documentElement.clientHeight, window.innerHeight || 0);
+            window.scrollBy(0, element.getBoundingClientRect().top - (viewPortHeight / 2));
+            var done = false, stillFrames = 0, last = element.getBoundingClientRect();
+            function settle() {if (!done) {done = true; callback(true);}}
+            setTimeout(settle, timeout);
+            function watch() {
+                if (done) return;
+                var rect = element.getBoundingClientRect();
+                stillFrames = rect.top === last.top && rect.left === last.left ? stillFrames + 1 : 0;
+                last = rect;
+                if (stillFrames >= 2) settle();
+                else requestAnimationFrame(watch);
+            }
+            requestAnimationFrame(watch);
+            """;
+
     /**
      * Scroll in a given direction
      *
      * @param direction target direction (UP or DOWN)
      */
     protected void scroll(@NotNull Direction direction){
-        log.new Info("Scrolling " + strUtils.highlighted(BLUE, direction.name().toLowerCase()));
+        logger.info(() -> "Scrolling " + strUtils.highlighted(BLUE, direction.name().toLowerCase()));
         String script = switch (direction) {
             case up -> "window.scrollBy(0,-document.body.scrollHeight)";
             case down -> "window.scrollBy(0,document.body.scrollHeight)";
         };
-        ((JavascriptExecutor) driver).executeScript(script);
+        ((JavascriptExecutor) getDriver()).executeScript(script);
     }
 
     /**
@@ -1187,7 +1328,7 @@ public abstract class WebUtilities extends Driver {
      */
     @Deprecated(since = "1.6.2")
     protected void verifyUrl(String url){
-        Assert.assertTrue(driver.getCurrentUrl().contains(url));
+        Assert.assertTrue(getDriver().getCurrentUrl().contains(url));
     }
 
     /**
@@ -1196,7 +1337,7 @@ public abstract class WebUtilities extends Driver {
      * @param url target url
      */
     protected void verifyUrlContains(String url){
-        Assert.assertTrue(driver.getCurrentUrl().contains(url));
+        Assert.assertTrue(getDriver().getCurrentUrl().contains(url));
     }
 
     /**
@@ -1205,7 +1346,7 @@ public abstract class WebUtilities extends Driver {
      * @param url target url
      */
     protected void verifyCurrentUrl(String url){
-        Assert.assertTrue(driver.getCurrentUrl().equalsIgnoreCase(url));
+        Assert.assertTrue(getDriver().getCurrentUrl().equalsIgnoreCase(url));
     }
 
     /**
@@ -1215,7 +1356,7 @@ public abstract class WebUtilities extends Driver {
      */
     //This method verifies the page title
     protected void verifyPageTitle(String pageTitle){
-        Assert.assertTrue(driver.getTitle().contains(pageTitle));
+        Assert.assertTrue(getDriver().getTitle().contains(pageTitle));
     }
 
     /**
@@ -1226,13 +1367,16 @@ public abstract class WebUtilities extends Driver {
      */
     //This method returns all the attributes of an element as an object
     protected Object getElementObject(WebElement element){
-        return ((JavascriptExecutor) driver).executeScript("var items = {}; for (index = 0;" +
-                        " index < arguments[0].attributes.length; ++index) " +
-                        "{ items[arguments[0].attributes[index].name] = arguments[0].attributes[index].value }; return items;",
-                element
-        );
+        return ((JavascriptExecutor) getDriver()).executeScript(elementObjectScript, element);
     }
 
+    /**
+     * Returns the attributes of an element as an object
+     */
+    private static final String elementObjectScript = "/*pickleib:element-object*/ var items = {}; for (index = 0;" +
+            " index < arguments[0].attributes.length; ++index) " +
+            "{ items[arguments[0].attributes[index].name] = arguments[0].attributes[index].value }; return items;";
+
     /**
      * Prints all the attributes of a given element
      *
@@ -1241,11 +1385,37 @@ public abstract class WebUtilities extends Driver {
     //This method prints all the attributes of a given element
     protected void printElementAttributes(WebElement element){
         JSONObject attributeJSON = new JSONObject(strUtils.str2Map(getElementObject(element).toString()));
-        for (Object attribute : attributeJSON.keySet()) log.new Info(attribute +" : "+ attributeJSON.get(attribute));
+        for (Object attribute : attributeJSON.keySet()) logger.info(() -> attribute +" : "+ attributeJSON.get(attribute));
     }
 
+    /**
+     * Returns the absolute xPath of an element, by walking its ancestors within the browser
+     */
+    private static final String xPathScript = """
+            /*pickleib:xpath*/
+            var path = '';
+            for (var element = arguments[0]; element && element.nodeType === Node.ELEMENT_NODE; element = element.parentNode) {
+                var tag = element.tagName.toLowerCase(), index = 1;
+                for (var sibling = element.previousElementSibling; sibling; sibling = sibling.previousElementSibling)
+                    if (sibling.tagName.toLowerCase() === tag) index++;
+                path = '/' + tag + '[' + index + ']' + path;
+            }
+            return path;
+            """;
+
+    /**
+     * Returns the closest ancestor-or-self of an element whose class contains a given selector class
+     */
+    private static final String parentByClassScript = """
+            /*pickleib:parent-by-class*/
+            for (var element = arguments[0]; element && element.nodeType === Node.ELEMENT_NODE; element = element.parentElement)
+                if ((element.getAttribute('class') || '').indexOf(arguments[1]) >= 0) return element;
+            return null;
+            """;
+
     /**
      * Gets the parent class from a child element using a selector class
+     * The lookup runs in a single script
      *
      * @param childElement element that generates the parent class
      * @param current empty string (at the beginning)
@@ -1253,48 +1423,22 @@ public abstract class WebUtilities extends Driver {
      * @return returns the targeted parent element
      */
     protected WebElement getParentByClass(WebElement childElement, String current, String parentSelectorClass) {
-
-        if (current == null) {current = "";}
-
-        String childTag = childElement.getTagName();
-
-        if (childElement.getAttribute("class").contains(parentSelectorClass)) return childElement;
-
-        WebElement parentElement = childElement.findElement(By.xpath(".."));
-        List<WebElement> childrenElements = parentElement.findElements(By.xpath("*"));
-
-        int count = 0;
-        for (WebElement childrenElement : childrenElements) {
-            String childrenElementTag = childrenElement.getTagName();
-            if (childTag.equals(childrenElementTag)) count++;
-            if (childElement.equals(childrenElement)) {
-                return getParentByClass(parentElement, "/" + childTag + "[" + count + "]" + current, parentSelectorClass);
-            }
-        }
-        return null;
+        return (WebElement) ((JavascriptExecutor) getDriver()).executeScript(parentByClassScript, childElement, parentSelectorClass);
     }
 
     /**
      * Generate a xPath for a given element
+     * The xPath is generated in a single script
      *
      * @param childElement web element gets generated a xPath from
      * @param current empty string (at the beginning)
      * @return returns generated xPath
      */
     protected String generateXPath(@NotNull WebElement childElement, String current) {
-        String childTag = childElement.getTagName();
-        if (childTag.equals("html")) {return "/html[1]" + current;}
-        WebElement parentElement = childElement.findElement(By.xpath(".."));
-        List<WebElement> childrenElements = parentElement.findElements(By.xpath("*"));
-        int count = 0;
-        for (WebElement childrenElement : childrenElements) {
-            String childrenElementTag = childrenElement.getTagName();
-            if (childTag.equals(childrenElementTag)) count++;
-            if (childElement.equals(childrenElement)) {
-                return generateXPath(parentElement, "/" + childTag + "[" + count + "]" + current);
-            }
-        }
-        return null;
+        if (current == null) current = "";
+        String xPath = (String) ((JavascriptExecutor) getDriver()).executeScript(xPathScript, childElement);
+        if (xPath == null || xPath.isEmpty()) return null;
+        return xPath + current;
     }
 
     /**
@@ -1304,8 +1448,8 @@ public abstract class WebUtilities extends Driver {
     protected List<WebElement> verifyAbsenceOfElementLocatedBy(@NotNull Locator locatorType, String locator, long startTime){
 
         List<WebElement> elements = switch (locatorType) {
-            case XPATH -> driver.findElements(By.xpath(locator));
-            case CSS -> driver.findElements(By.cssSelector(locator));
+            case XPATH -> getDriver().findElements(By.xpath(locator));
+            case CSS -> getDriver().findElements(By.cssSelector(locator));
         };
 
         if ((System.currentTimeMillis() - startTime) > elementTimeout){
@@ -1322,23 +1466,23 @@ public abstract class WebUtilities extends Driver {
     @Deprecated(since = "1.2.7", forRemoval = true)
     protected void waitUntilElementIsNoLongerPresent(WebElement element, long startTime){
         try {
-            WebDriver subDriver = driver;
+            WebDriver subDriver = getDriver();
             subDriver.manage().timeouts().implicitlyWait(Duration.ofMillis(500));
-            List<WebElement> elementPresence = driver.findElements(By.xpath(generateXPath(element,"")));
+            List<WebElement> elementPresence = getDriver().findElements(By.xpath(generateXPath(element,"")));
             while (elementPresence.size()>0){
                 if ((System.currentTimeMillis() - startTime) > elementTimeout)
                     throw new TimeoutException(GRAY+"Element was still present after " + elementTimeout /1000 + " seconds."+RESET);
                 elementPresence = subDriver.findElements(By.xpath(generateXPath(element,"")));
             }
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(elementTimeout/1000));
+            getDriver().manage().timeouts().implicitlyWait(Duration.ofSeconds(elementTimeout/1000));
         }
         catch (WebDriverException exception){
             if (System.currentTimeMillis()-startTime<elementTimeout) waitUntilElementIsNoLongerPresent(element, startTime);
             else throw new TimeoutException(GRAY+"Element was still present after " + elementTimeout /1000 + " seconds."+RESET);
         }
         catch (IllegalArgumentException ignored){
-            log.new Success("The element is no longer present!");
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(elementTimeout/1000));
+            logger.success(() -> "The element is no longer present!");
+            getDriver().manage().timeouts().implicitlyWait(Duration.ofSeconds(elementTimeout/1000));
         }
     }
 
@@ -1349,7 +1493,7 @@ public abstract class WebUtilities extends Driver {
     protected WebElement waitUntilElementIsInvisible(WebElement element, long startTime) {
         if ((System.currentTimeMillis() - startTime) > elementTimeout) return element;
         try {
-            wait.until(ExpectedConditions.invisibilityOf(element));
+            getWait().until(ExpectedConditions.invisibilityOf(element));
             return null;
         }
         catch (TimeoutException e) {return waitUntilElementIsInvisible(element, startTime);}
@@ -1360,16 +1504,16 @@ public abstract class WebUtilities extends Driver {
      */
     @Deprecated(since = "1.2.7", forRemoval = true)
     protected WebElement waitUntilElementIsClickable(WebElement element, long initialTime){
-        driver.manage().timeouts().implicitlyWait(Duration.ofMillis(500));
+        getDriver().manage().timeouts().implicitlyWait(Duration.ofMillis(500));
         if (System.currentTimeMillis()-initialTime > elementTimeout){
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(elementTimeout/1000));
+            getDriver().manage().timeouts().implicitlyWait(Duration.ofSeconds(elementTimeout/1000));
             return null;
         }
         try {if (!element.isEnabled()){waitUntilElementIsClickable(element, initialTime);}}
         catch (WebDriverException exception){
             return waitUntilElementIsClickable(element, initialTime);
         }
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(elementTimeout/1000));
+        getDriver().manage().timeouts().implicitlyWait(Duration.ofSeconds(elementTimeout/1000));
         return element;
     }
 
@@ -1379,16 +1523,21 @@ public abstract class WebUtilities extends Driver {
      * @param webElement element that gets clicked
      */
     protected void clickWithJS(WebElement webElement) {
-        ((JavascriptExecutor) driver).executeScript("arguments[0].click();", webElement);
+        ((JavascriptExecutor) getDriver()).executeScript(clickScript, webElement);
     }
 
+    /**
+     * Clicks an element
+     */
+    private static final String clickScript = "/*pickleib:click*/ arguments[0].click();";
+
     /**
      * Scrolls element into view by using javascript
      *
      * @param webElement element that gets scrolled into the view
      */
     protected void scrollWithJS(WebElement webElement) {
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView();", webElement);
+        ((JavascriptExecutor) getDriver()).executeScript("arguments[0].scrollIntoView();", webElement);
     }
 
     /**
@@ -1399,7 +1548,7 @@ public abstract class WebUtilities extends Driver {
         if ((System.currentTimeMillis() - startTime) > 10000) return false;
         try {return element.isDisplayed();}
         catch (Exception e) {
-            log.new Info(e.getLocalizedMessage());
+            logger.info(() -> e.getLocalizedMessage());
             return elementIsDisplayed(element, startTime);
         }
     }
@@ -1417,33 +1566,13 @@ public abstract class WebUtilities extends Driver {
 
     /**
      * Custom context checker to re-format an input text or acquire context data
+     * Inputs are compiled once and cached, markers can be embedded as placeholders (e.g. "Hi {{CONTEXT-name}}")
      *
      * @param input string that is to be context checked
      * @return value depending on the context (could be from ContextStore, Properties, Random etc)
-     * @deprecated now moved to io.github.umutayb/Utilities
      */
-    @Deprecated(since = "1.7.0")
     protected String contextCheck(@NotNull String input){
-        TextParser parser = new TextParser();
-        if (input.contains("CONTEXT-"))
-            input = ContextStore.get(parser.parse("CONTEXT-", null, input)).toString();
-        else if (input.contains("RANDOM-")){
-            boolean useLetters = input.contains("LETTER");
-            boolean useNumbers = input.contains("NUMBER");
-            String keyword = "";
-            if (input.contains("KEYWORD")) keyword = parser.parse("-K=", "-", input);
-            int length = Integer.parseInt(parser.parse("-L=", null, input));
-            input = strUtils.generateRandomString(keyword, length, useLetters, useNumbers);
-        }
-        else if (input.contains("UPLOAD-")){
-            String relativePath = parser.parse("UPLOAD-", null, input);
-            input = new FileUtilities().getAbsolutePath(relativePath);
-        }
-        else if (input.contains("PROPERTY-")){
-            String propertyName = parser.parse("TEST_PROPERTY-", null, input);
-            input = properties.getProperty(propertyName, "NULL");
-        }
-        return input;
+        return TemplateResolver.resolve(input);
     }
 
     /**
@@ -1456,17 +1585,17 @@ public abstract class WebUtilities extends Driver {
      * @return true if the specified event was fired.
      */
     protected boolean isEventFired(String eventName, String listenerScript){
-        log.new Info("Listening to '" + eventName + "' event");
+        logger.info(() -> "Listening to '" + eventName + "' event");
         String eventKey = strUtils.generateRandomString(eventName + "#", 6, false, true);
         listenerScript = listenerScript.replace(eventName, "'" + eventName + "', function(){console.warn('" + eventKey +"')}");
         executeScript(listenerScript);
-        LogEntries logs = driver.manage().logs().get(LogType.BROWSER);
+        LogEntries logs = getDriver().manage().logs().get(LogType.BROWSER);
         for (LogEntry entry: logs.getAll())
             if (entry.toString().contains(eventKey)) {
-                log.new Success("'" + eventName + "' event is fired!");
+                logger.success(() -> "'" + eventName + "' event is fired!");
                 return true;
             }
-        log.new Warning(eventName + " event is not fired!");
+        logger.warning(() -> eventName + " event is not fired!");
         return false;
     }
 
@@ -1478,9 +1607,9 @@ public abstract class WebUtilities extends Driver {
      * @return true if the specified event was fired.
      */
     protected boolean isEventFiredByScript(String eventKey, String listenerScript){
-        log.new Info("Listening to '" + strUtils.markup(BLUE, eventKey) + "' event");
+        logger.info(() -> "Listening to '" + strUtils.markup(BLUE, eventKey) + "' event");
         executeScript(listenerScript);
-        LogEntries logs = driver.manage().logs().get(LogType.BROWSER);
+        LogEntries logs = getDriver().manage().logs().get(LogType.BROWSER);
         for (LogEntry entry: logs.getAll()) if (entry.toString().contains(eventKey)) return true;
         return false;
     }
@@ -1492,7 +1621,7 @@ public abstract class WebUtilities extends Driver {
      * @return object if the scripts yields one
      */
     protected Object executeScript(String script){
-        log.new Info("Executing script: " + strUtils.highlighted(BLUE, script));
-        return ((JavascriptExecutor) driver).executeScript(script);
+        logger.info(() -> "Executing script: " + strUtils.highlighted(BLUE, script));
+        return ((JavascriptExecutor) getDriver()).executeScript(script);
     }
 }
@@ -2,6 +2,7 @@ package pickleib.utilities.email;
 
 import context.ContextStore;
 import utils.EmailUtilities;
+import utils.PropertyUtility;
 import utils.StringUtilities;
 
 import java.io.File;
@@ -21,7 +22,26 @@ public class EmailAcquisition {
         this.emailInbox = emailInbox;
     }
 
+    /**
+     * Acquires an email and returns a url the browser can open it with
+     * The email is rendered from memory as a data url (email-render-mode=data) or through the embedded email server
+     * (email-render-mode=server), or saved into the inbox directory and opened as a file (email-render-mode=file, default)
+     *
+     * @param filterType email field to filter by
+     * @param filterKey text the email field should contain
+     * @return returns the email url
+     */
     public String acquireEmail(EmailUtilities.Inbox.EmailField filterType, String filterKey) {
+        String renderMode = PropertyUtility.properties.getProperty("email-render-mode", "file").toLowerCase();
+        if (renderMode.equals("data") || renderMode.equals("server")) {
+            emailInbox.log.new Info("Acquiring email(s) by " +
+                    strUtils.highlighted(BLUE, filterType.name()) +
+                    strUtils.highlighted(GRAY, " -> ") +
+                    strUtils.highlighted(BLUE, filterKey)
+            );
+            String content = emailInbox.getEmail(filterType, filterKey, false, false, false);
+            return renderMode.equals("data") ? EmailRenderer.dataUrl(content) : EmailRenderer.serve(content);
+        }
         emailInbox.log.new Info("Acquiring & saving email(s) by " +
                 strUtils.highlighted(BLUE, filterType.name()) +
                 strUtils.highlighted(GRAY, " -> ") +
@@ -32,8 +52,7 @@ public class EmailAcquisition {
         String absolutePath = null;
         for (File email : Objects.requireNonNull(dir.listFiles()))
             try {
-                boolean nullCheck = Files.probeContentType(email.toPath()) != null;
-                if (nullCheck && Files.probeContentType(email.toPath()).equals("text/html")) {
+                if ("text/html".equals(Files.probeContentType(email.toPath()))) {
                     absolutePath = "file://" + email.getAbsolutePath().replaceAll("#", "%23");
                     break;
                 }
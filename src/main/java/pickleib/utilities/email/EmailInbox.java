@@ -3,7 +3,15 @@ package pickleib.utilities.email;
 import lombok.*;
 import org.openqa.selenium.TimeoutException;
 import utils.EmailUtilities;
+import pickleib.exceptions.PickleibException;
 import utils.Printer;
+import utils.PropertyUtility;
+
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 
 import static utils.EmailUtilities.Inbox.EmailField.CONTENT;
@@ -48,6 +56,8 @@ public class EmailInbox {
             Boolean print,
             Boolean save,
             Boolean saveAttachments){
+        if (useSession())
+            return getSessionEmail(email, emailApplicationPassword, host, port, secureCon, filter, filterKey, print, save, saveAttachments);
         EmailUtilities.Inbox inbox = getInbox(
                 email,
                 emailApplicationPassword,
@@ -64,6 +74,8 @@ public class EmailInbox {
     }
 
     public String getEmail(){
+        if (useSession())
+            return getSessionEmail(email, emailApplicationPassword, host, port, secureCon, filter, filterKey, print, save, saveAttachments);
         EmailUtilities.Inbox inbox = getInbox(
                 email,
                 emailApplicationPassword,
@@ -85,6 +97,8 @@ public class EmailInbox {
             Boolean print,
             Boolean save,
             Boolean saveAttachments){
+        if (useSession())
+            return getSessionEmail(email, emailApplicationPassword, host, port, secureCon, filter, filterKey, print, save, saveAttachments);
         EmailUtilities.Inbox inbox = getInbox(
                 email,
                 emailApplicationPassword,
@@ -165,10 +179,64 @@ public class EmailInbox {
             );
             try {TimeUnit.SECONDS.sleep(3);}
             catch (InterruptedException e) {throw new RuntimeException(e);}
-            if (System.currentTimeMillis() - initialTime > 45000) throw new TimeoutException("Verification email did not arrive!");
+            if (System.currentTimeMillis() - initialTime > emailTimeout()) throw new TimeoutException("Verification email did not arrive!");
         }
         while (inbox.messages.size() == 0);
         log.new Success("Email(s) acquired!");
         return inbox;
     }
+
+    /**
+     * Checks if emails are acquired through a persistent mailbox session (email-acquisition-mode=session)
+     *
+     * @return returns true if the mailbox session is used
+     */
+    private static boolean useSession(){
+        return PropertyUtility.properties.getProperty("email-acquisition-mode", "poll").equalsIgnoreCase("session");
+    }
+
+    /**
+     * @return returns the email acquisition timeout (ms)
+     */
+    private static long emailTimeout(){
+        return Long.parseLong(PropertyUtility.properties.getProperty("email-timeout", "45000"));
+    }
+
+    /**
+     * Acquires the content of an email through the shared mailbox watcher, returns as soon as a matching email arrives
+     * Concurrent acquisitions from the same mailbox wait on one watcher instead of polling separately
+     */
+    private static String getSessionEmail(
+            String email,
+            String emailApplicationPassword,
+            String host,
+            String port,
+            String secureCon,
+            EmailUtilities.Inbox.EmailField filter,
+            String filterKey,
+            Boolean print,
+            Boolean save,
+            Boolean saveAttachments
+    ){
+        Printer log = new Printer(EmailInbox.class);
+        log.new Info("Acquiring email...");
+        try {
+            Message message = MailboxWatcher.of(host, port, email, emailApplicationPassword, secureCon)
+                    .await(filter, filterKey, Duration.ofMillis(emailTimeout()))
+                    .join();
+            String content = MailboxSession.content(message);
+            log.new Success("Email(s) acquired!");
+            if (Boolean.TRUE.equals(print)) log.new Info(message.getSubject() + "\n" + content);
+            if (Boolean.TRUE.equals(save) || Boolean.TRUE.equals(saveAttachments))
+                MailboxSession.save(message, Boolean.TRUE.equals(saveAttachments));
+            return content;
+        }
+        catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) throw cause;
+            throw exception;
+        }
+        catch (MessagingException | IOException exception) {
+            throw new PickleibException("Could not read the email content: " + exception.getMessage());
+        }
+    }
 }
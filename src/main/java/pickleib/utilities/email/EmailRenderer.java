@@ -0,0 +1,104 @@
+package pickleib.utilities.email;
+
+import com.sun.net.httpserver.HttpServer;
+import pickleib.exceptions.PickleibException;
+import utils.Printer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Serves email contents to the browser from memory, without writing them to disk
+ * <p>
+ * Contents are either encoded into data urls, or served by an embedded http server bound to the loopback address
+ * (for browsers that run on the same machine). The server keeps the most recent 100 contents.
+ */
+public final class EmailRenderer {
+
+    private static final Printer log = new Printer(EmailRenderer.class);
+    private static final Map<String, Content> contents = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Content> eldest) {return size() > 100;}
+    });
+    private static HttpServer server;
+
+    private EmailRenderer(){}
+
+    private record Content(String mimeType, byte[] body) {}
+
+    /**
+     * Encodes a given email content into a data url
+     *
+     * @param content email content
+     * @return returns the data url
+     */
+    public static String dataUrl(String content){
+        return "data:" + mimeType(content) + ";base64," +
+                Base64.getEncoder().encodeToString(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Serves a given email content through the embedded http server, the server starts on first use
+     *
+     * @param content email content
+     * @return returns the content url
+     */
+    public static String serve(String content){
+        HttpServer httpServer = server();
+        String id = UUID.randomUUID().toString();
+        contents.put(id, new Content(mimeType(content), content.getBytes(StandardCharsets.UTF_8)));
+        return "http://" + httpServer.getAddress().getHostString() + ":" + httpServer.getAddress().getPort() + "/email/" + id;
+    }
+
+    /**
+     * Checks if a given content is html
+     *
+     * @param content email content
+     * @return returns true if the content looks like html
+     */
+    static boolean isHtml(String content){
+        return content.stripLeading().startsWith("<") && content.contains("</");
+    }
+
+    private static String mimeType(String content){
+        return (isHtml(content) ? "text/html" : "text/plain") + ";charset=utf-8";
+    }
+
+    private static synchronized HttpServer server(){
+        if (server != null) return server;
+        try {
+            HttpServer httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            httpServer.createContext("/email/", exchange -> {
+                Content content = contents.get(exchange.getRequestURI().getPath().substring("/email/".length()));
+                if (content == null) exchange.sendResponseHeaders(404, -1);
+                else {
+                    exchange.getResponseHeaders().set("Content-Type", content.mimeType());
+                    exchange.sendResponseHeaders(200, content.body().length);
+                    try (OutputStream body = exchange.getResponseBody()) {body.write(content.body());}
+                }
+                exchange.close();
+            });
+            // Server threads inherit the daemon state of the starting thread, so the server does not keep the JVM alive
+            Thread starter = new Thread(httpServer::start, "pickleib-email-server");
+            starter.setDaemon(true);
+            starter.start();
+            starter.join();
+            log.new Info("Email server is listening on port " + httpServer.getAddress().getPort());
+            server = httpServer;
+            return server;
+        }
+        catch (IOException exception) {throw new PickleibException("Could not start the email server: " + exception.getMessage());}
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new PickleibException("Interrupted while starting the email server!");
+        }
+    }
+}
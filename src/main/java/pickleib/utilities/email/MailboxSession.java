@@ -0,0 +1,365 @@
+package pickleib.utilities.email;
+
+import com.sun.mail.imap.IMAPFolder;
+import com.sun.mail.imap.IMAPStore;
+import org.apache.commons.io.FileUtils;
+import utils.EmailUtilities;
+import utils.Printer;
+
+import javax.mail.*;
+import javax.mail.internet.MimeBodyPart;
+import javax.mail.internet.MimeMessage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Persistent, authenticated IMAP session of a mailbox
+ * <p>
+ * Waits for changes through IMAP IDLE, the server pushes new messages and the wait returns as soon as one arrives.
+ * Servers without the IDLE capability are polled with an adaptive interval (250ms, doubling up to 3s).
+ * Fetching is incremental, only the envelopes of messages after the last seen uid are downloaded on each check.
+ * Sessions are shared per host, port & email (see of()), so consecutive acquisitions reuse one connection.
+ * Messages are acquired through the MailboxWatcher of the mailbox, which drives the session.
+ */
+public class MailboxSession implements AutoCloseable {
+
+    private static final Printer log = new Printer(MailboxSession.class);
+    private static final Map<String, MailboxSession> sessions = new ConcurrentHashMap<>();
+    private static final ScheduledExecutorService idleBreaker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "pickleib-imap-idle-breaker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final String host;
+    private final String port;
+    private final String email;
+    private final String password;
+    private final boolean secure;
+    private final Object wakeSignal = new Object();
+    private Store store;
+    private volatile IMAPFolder inbox;
+    private volatile boolean idling;
+    private volatile boolean woken;
+
+    /**
+     * Envelopes of the seen messages by uid, valid for the uid validity they were fetched with
+     */
+    private final Map<Long, Envelope> envelopes = new LinkedHashMap<>();
+    private long uidValidity = -1;
+    private long lastUid;
+
+    /**
+     * Contents of the messages downloaded for CONTENT filters, by uid (most recent 200)
+     */
+    private final Map<Long, String> contents = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {return size() > 200;}
+    };
+
+    private MailboxSession(String host, String port, String email, String password, String secureCon){
+        this.host = host;
+        this.port = port;
+        this.email = email;
+        this.password = password;
+        this.secure = Boolean.parseBoolean(secureCon);
+    }
+
+    /**
+     * Returns the shared session of a mailbox, the session connects on first use
+     *
+     * @param host IMAP host
+     * @param port IMAP port
+     * @param email mailbox address
+     * @param password mailbox (application) password
+     * @param secureCon connects over SSL (imaps) if "true"
+     * @return returns the mailbox session
+     */
+    public static MailboxSession of(String host, String port, String email, String password, String secureCon){
+        return sessions.computeIfAbsent(
+                host + ":" + port + ":" + email,
+                key -> new MailboxSession(host, port, email, password, secureCon)
+        );
+    }
+
+    /**
+     * Closes every shared session
+     */
+    public static void closeAll(){
+        for (MailboxSession session : sessions.values()) session.close();
+        sessions.clear();
+    }
+
+    /**
+     * Envelope of a seen message
+     *
+     * @param uid message uid
+     * @param subject message subject
+     * @param sender message senders
+     * @param sentDate message date
+     */
+    private record Envelope(long uid, String subject, String sender, Date sentDate) {}
+
+    /**
+     * Fetches the envelopes of the messages that arrived after the last seen uid
+     *
+     * @return returns the uids of the new messages
+     */
+    synchronized List<Long> refresh() throws MessagingException {
+        return fetchNewEnvelopes(inbox()).stream().map(Envelope::uid).toList();
+    }
+
+    /**
+     * @return returns the uids of the messages seen so far
+     */
+    synchronized List<Long> seenUids(){return List.copyOf(envelopes.keySet());}
+
+    /**
+     * Returns a seen message if it matches a given filter
+     *
+     * @param uid message uid
+     * @param filter email field to filter by, every message matches if null
+     * @param filterKey text the email field should contain
+     * @return returns the matching message, or null if the message does not match
+     */
+    synchronized Message match(long uid, EmailUtilities.Inbox.EmailField filter, String filterKey)
+            throws MessagingException, IOException {
+        Envelope envelope = envelopes.get(uid);
+        return envelope == null ? null : match(inbox(), envelope, filter, filterKey);
+    }
+
+    /**
+     * Waits for a change in the mailbox (idles, or sleeps for the poll interval without IDLE),
+     * returns early if the deadline is reached or wake() is called
+     *
+     * @param deadline wait limit (epoch ms)
+     * @param pollInterval wait limit (ms) if the server does not support IDLE
+     */
+    synchronized void awaitChange(long deadline, long pollInterval) throws MessagingException, InterruptedException {
+        IMAPFolder folder = inbox();
+        if (((IMAPStore) store).hasCapability("IDLE")) {
+            idling = true;
+            try {if (!woken) idle(folder, deadline);}
+            finally {
+                idling = false;
+                woken = false;
+            }
+        }
+        else synchronized (wakeSignal) {
+            if (!woken) wakeSignal.wait(Math.max(1, Math.min(pollInterval, deadline - System.currentTimeMillis())));
+            woken = false;
+        }
+    }
+
+    /**
+     * Ends an ongoing (or the next) awaitChange() call
+     */
+    void wake(){
+        woken = true;
+        synchronized (wakeSignal) {wakeSignal.notifyAll();}
+        IMAPFolder folder = inbox;
+        if (folder == null) return;
+        // The idle may start after a break attempt, attempts continue until the waiting thread consumes the signal
+        idleBreaker.execute(() -> {
+            for (int attempt = 0; attempt < 20 && woken; attempt++) {
+                if (idling) {
+                    try {folder.getMessageCount();}
+                    catch (MessagingException ignored) {}
+                }
+                try {TimeUnit.MILLISECONDS.sleep(50);}
+                catch (InterruptedException exception) {return;}
+            }
+        });
+    }
+
+    /**
+     * Fetches the envelopes of the messages that arrived after the last seen uid
+     *
+     * @param folder inbox
+     * @return returns the new envelopes
+     */
+    private List<Envelope> fetchNewEnvelopes(IMAPFolder folder) throws MessagingException {
+        if (folder.getUIDValidity() != uidValidity) {
+            uidValidity = folder.getUIDValidity();
+            envelopes.clear();
+            contents.clear();
+            lastUid = 0;
+        }
+        Message[] messages = folder.getMessagesByUID(lastUid + 1, UIDFolder.LASTUID);
+        FetchProfile profile = new FetchProfile();
+        profile.add(FetchProfile.Item.ENVELOPE);
+        profile.add(UIDFolder.FetchProfileItem.UID);
+        folder.fetch(messages, profile);
+
+        List<Envelope> newEnvelopes = new ArrayList<>();
+        for (Message message : messages) {
+            long uid = folder.getUID(message);
+            if (uid <= lastUid) continue; // "n:*" returns the last message even if its uid is lower than n
+            Envelope envelope = new Envelope(uid, message.getSubject(), Arrays.toString(message.getFrom()), message.getSentDate());
+            envelopes.put(uid, envelope);
+            newEnvelopes.add(envelope);
+            lastUid = uid;
+        }
+        return newEnvelopes;
+    }
+
+    /**
+     * Returns the message of an envelope if it matches a given filter
+     *
+     * @param folder inbox
+     * @param envelope message envelope
+     * @param filter email field to filter by, every message matches if null
+     * @param filterKey text the email field should contain
+     * @return returns the matching message, or null if the message does not match
+     */
+    private Message match(IMAPFolder folder, Envelope envelope, EmailUtilities.Inbox.EmailField filter, String filterKey)
+            throws MessagingException, IOException {
+        if (filter == null || filterKey == null) return folder.getMessageByUID(envelope.uid());
+        boolean matches = switch (filter) {
+            case SUBJECT -> contains(envelope.subject(), filterKey);
+            case SENDER -> contains(envelope.sender(), filterKey);
+            case DATE -> envelope.sentDate() != null && contains(envelope.sentDate().toString(), filterKey);
+            case INDEX -> {
+                Message message = folder.getMessageByUID(envelope.uid());
+                yield message != null && String.valueOf(message.getMessageNumber()).equals(filterKey);
+            }
+            case CONTENT -> {
+                String content = contents.get(envelope.uid());
+                if (content == null) {
+                    Message message = folder.getMessageByUID(envelope.uid());
+                    if (message == null) yield false;
+                    content = content(message);
+                    contents.put(envelope.uid(), content);
+                }
+                yield contains(content, filterKey);
+            }
+        };
+        return matches ? folder.getMessageByUID(envelope.uid()) : null;
+    }
+
+    /**
+     * Idles until the server reports a change, or the deadline is reached
+     *
+     * @param folder idling folder
+     * @param deadline wait limit (epoch ms)
+     */
+    private void idle(IMAPFolder folder, long deadline) throws MessagingException {
+        // Any command issued on the folder ends the idle, it is used to enforce the deadline
+        ScheduledFuture<?> breaker = idleBreaker.schedule(() -> {
+            try {folder.getMessageCount();}
+            catch (MessagingException ignored) {}
+        }, Math.max(1, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        try {folder.idle(true);}
+        finally {breaker.cancel(false);}
+    }
+
+    /**
+     * Returns the content of a message, the html body is preferred over the plain text body
+     *
+     * @param part message or message part
+     * @return returns the content, or an empty string if the message has no text content
+     */
+    public static String content(Part part) throws MessagingException, IOException {
+        if (part.isMimeType("text/*")) return String.valueOf(part.getContent());
+        if (part.getContent() instanceof Multipart multipart) {
+            String text = "";
+            for (int index = 0; index < multipart.getCount(); index++) {
+                BodyPart bodyPart = multipart.getBodyPart(index);
+                if (bodyPart.isMimeType("text/html")) return String.valueOf(bodyPart.getContent());
+                String content = content(bodyPart);
+                if (text.isEmpty()) text = content;
+            }
+            return text;
+        }
+        return "";
+    }
+
+    /**
+     * Saves the content of a message into the inbox directory (as an html file, if the content is html),
+     * and optionally its attachments
+     *
+     * @param message target message
+     * @param saveAttachments attachments are saved if true
+     * @return returns the content file
+     */
+    public static File save(Message message, boolean saveAttachments) throws MessagingException, IOException {
+        File directory = new File("inbox");
+        String name = (message.getSubject() == null ? "email" : message.getSubject()).replaceAll("[^\\w.-]", "_") +
+                "#" + message.getMessageNumber();
+        String content = content(message);
+        File file = new File(directory, name + (EmailRenderer.isHtml(content) ? ".html" : ".txt"));
+        FileUtils.writeStringToFile(file, content, StandardCharsets.UTF_8);
+        if (saveAttachments && message.getContent() instanceof Multipart multipart)
+            for (int index = 0; index < multipart.getCount(); index++) {
+                BodyPart bodyPart = multipart.getBodyPart(index);
+                if (Part.ATTACHMENT.equalsIgnoreCase(bodyPart.getDisposition()) && bodyPart instanceof MimeBodyPart attachment)
+                    attachment.saveFile(new File(directory, name + "#" + attachment.getFileName()));
+            }
+        return file;
+    }
+
+    /**
+     * Reads a message into memory, so it stays readable once its folder is closed (e.g. after a reconnect)
+     *
+     * @param message folder message
+     * @return returns the detached copy of the message
+     */
+    public static Message detach(Message message) throws MessagingException {
+        return new DetachedMessage((MimeMessage) message);
+    }
+
+    /**
+     * In-memory copy of a folder message, keeps the message number of its source
+     */
+    private static final class DetachedMessage extends MimeMessage {
+        private DetachedMessage(MimeMessage source) throws MessagingException {
+            super(source);
+            setMessageNumber(source.getMessageNumber());
+        }
+    }
+
+    private static boolean contains(String text, String key){return text != null && text.contains(key);}
+
+    /**
+     * Connects and opens the inbox, if the session is not connected
+     *
+     * @return returns the open inbox
+     */
+    private IMAPFolder inbox() throws MessagingException {
+        if (store == null || !store.isConnected()) {
+            Properties properties = new Properties();
+            String protocol = secure ? "imaps" : "imap";
+            properties.setProperty("mail.store.protocol", protocol);
+            properties.setProperty("mail." + protocol + ".host", host);
+            properties.setProperty("mail." + protocol + ".port", port);
+            store = Session.getInstance(properties).getStore(protocol);
+            store.connect(host, Integer.parseInt(port), email, password);
+            inbox = null;
+            log.new Info("Connected to the " + email + " mailbox.");
+        }
+        if (inbox == null || !inbox.isOpen()) {
+            inbox = (IMAPFolder) store.getFolder("INBOX");
+            inbox.open(Folder.READ_ONLY);
+        }
+        return inbox;
+    }
+
+    /**
+     * Closes the session, it reconnects on next use
+     */
+    @Override
+    public synchronized void close(){
+        try {
+            if (inbox != null && inbox.isOpen()) inbox.close(false);
+            if (store != null) store.close();
+        }
+        catch (MessagingException exception) {log.new Warning("Could not close the mailbox session: " + exception.getMessage());}
+        finally {
+            inbox = null;
+            store = null;
+        }
+    }
+}
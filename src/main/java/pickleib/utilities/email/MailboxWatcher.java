@@ -0,0 +1,205 @@
+package pickleib.utilities.email;
+
+import org.openqa.selenium.TimeoutException;
+import pickleib.exceptions.PickleibException;
+import utils.EmailUtilities;
+import utils.Printer;
+
+import javax.mail.AuthenticationFailedException;
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.*;
+
+/**
+ * Shared watcher of a mailbox, routes the incoming messages to the scenarios that wait for them
+ * <p>
+ * Waiters register a filter and receive a future, a single thread per mailbox watches the mailbox session
+ * (see MailboxSession) and completes the futures of the waiters whose filters match a message.
+ * The mailbox is watched only while there are waiters, so the mail server load does not depend on the waiter count.
+ * <p>
+ * Matching messages are read into memory on the watcher thread (see MailboxSession.detach()), so the waiters can read them
+ * while the shared folder is refreshed or reconnected.
+ * <p>
+ * A new waiter is matched against the messages already in the inbox newest first, so it receives the most recent
+ * matching message, then against the incoming messages in arrival order.
+ * If the connection fails, the session is reconnected with a backoff (250ms, doubling up to 5s) while the waiters keep
+ * waiting until their own deadlines. Waiters fail early only if the mailbox cannot be reconnected (e.g. authentication fails).
+ */
+public class MailboxWatcher {
+
+    private static final Printer log = new Printer(MailboxWatcher.class);
+    private static final Map<String, MailboxWatcher> watchers = new ConcurrentHashMap<>();
+    private static final ScheduledExecutorService timeouts = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "pickleib-mailbox-watcher-timeouts");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final MailboxSession session;
+    private final String email;
+    private final Queue<Waiter> pending = new ConcurrentLinkedQueue<>();
+    private final List<Waiter> waiters = new CopyOnWriteArrayList<>();
+    private Thread watcher;
+
+    /**
+     * Last connection failure, reported by the waiters that time out while the session is reconnecting
+     */
+    private volatile Exception connectionFailure;
+
+    /**
+     * Waiting scenario
+     *
+     * @param filter email field to filter by, every message matches if null
+     * @param filterKey text the email field should contain
+     * @param deadline wait limit (epoch ms)
+     * @param future completed with the matching message, detached from the folder
+     */
+    private record Waiter(EmailUtilities.Inbox.EmailField filter, String filterKey, long deadline, CompletableFuture<Message> future) {}
+
+    private MailboxWatcher(MailboxSession session, String email){
+        this.session = session;
+        this.email = email;
+    }
+
+    /**
+     * Returns the shared watcher of a mailbox
+     *
+     * @param host IMAP host
+     * @param port IMAP port
+     * @param email mailbox address
+     * @param password mailbox (application) password
+     * @param secureCon connects over SSL (imaps) if "true"
+     * @return returns the mailbox watcher
+     */
+    public static MailboxWatcher of(String host, String port, String email, String password, String secureCon){
+        return watchers.computeIfAbsent(
+                host + ":" + port + ":" + email,
+                key -> new MailboxWatcher(MailboxSession.of(host, port, email, password, secureCon), email)
+        );
+    }
+
+    /**
+     * Waits for a message that matches a given filter, messages already in the inbox are checked first (newest first)
+     * The future fails with a TimeoutException if no message matches within the timeout
+     *
+     * @param filter email field to filter by, every message matches if null
+     * @param filterKey text the email field should contain
+     * @param timeout wait limit
+     * @return returns the future of the matching message, read into memory
+     */
+    public CompletableFuture<Message> await(EmailUtilities.Inbox.EmailField filter, String filterKey, Duration timeout){
+        Waiter waiter = new Waiter(filter, filterKey, System.currentTimeMillis() + timeout.toMillis(), new CompletableFuture<>());
+        timeouts.schedule(() -> {
+            Exception failure = connectionFailure;
+            String message = "Verification email did not arrive!" +
+                    (failure == null ? "" : " (mailbox connection failed: " + failure.getMessage() + ")");
+            if (waiter.future().completeExceptionally(new TimeoutException(message)))
+                session.wake();
+        }, timeout.toMillis(), TimeUnit.MILLISECONDS);
+        pending.add(waiter);
+        start();
+        session.wake();
+        return waiter.future();
+    }
+
+    /**
+     * Starts the watcher thread, if it is not running
+     */
+    private synchronized void start(){
+        if (watcher != null) return;
+        watcher = new Thread(this::watch, "pickleib-mailbox-watcher-" + email);
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    /**
+     * Watches the mailbox until there are no waiters left
+     */
+    private void watch(){
+        long pollInterval = 250;
+        long reconnectDelay = 0;
+        while (true) {
+            synchronized (this) {
+                pending.removeIf(waiter -> waiter.future().isDone());
+                waiters.removeIf(waiter -> waiter.future().isDone());
+                if (pending.isEmpty() && waiters.isEmpty()) {
+                    watcher = null;
+                    return;
+                }
+            }
+            try {
+                if (reconnectDelay > 0) TimeUnit.MILLISECONDS.sleep(reconnectDelay);
+                List<Long> newUids = session.refresh();
+                reconnectDelay = 0;
+                connectionFailure = null;
+                for (long uid : newUids)
+                    for (Waiter waiter : waiters) deliver(waiter, uid);
+
+                // New waiters are matched against the messages seen so far, newest first
+                // A waiter leaves the queue once it is matched, so it is matched again after a reconnect if this fails
+                for (Waiter waiter = pending.peek(); waiter != null; waiter = pending.peek()) {
+                    pollInterval = 250;
+                    List<Long> seenUids = session.seenUids();
+                    for (int index = seenUids.size() - 1; index >= 0; index--)
+                        if (deliver(waiter, seenUids.get(index))) break;
+                    if (!waiter.future().isDone()) waiters.add(waiter);
+                    pending.poll();
+                }
+                waiters.removeIf(waiter -> waiter.future().isDone());
+                if (waiters.isEmpty()) continue;
+
+                long deadline = waiters.stream().mapToLong(Waiter::deadline).min().orElse(System.currentTimeMillis());
+                session.awaitChange(deadline, pollInterval);
+                pollInterval = Math.min(pollInterval * 2, 3000);
+            }
+            catch (InterruptedException exception) {
+                fail(new PickleibException("Interrupted while waiting for an email!"));
+                Thread.currentThread().interrupt();
+            }
+            catch (AuthenticationFailedException exception) {
+                session.close();
+                fail(new PickleibException("Could not acquire email from " + email + ": " + exception.getMessage()));
+            }
+            catch (MessagingException | IOException exception) {
+                // The waiters are kept, they time out on their own deadlines if the session cannot be reconnected
+                session.close();
+                connectionFailure = exception;
+                reconnectDelay = reconnectDelay == 0 ? 250 : Math.min(reconnectDelay * 2, 5000);
+                log.new Warning("Mailbox watcher of " + email + " failed, reconnecting in " + reconnectDelay + "ms: " + exception.getMessage());
+            }
+            catch (RuntimeException exception) {
+                session.close();
+                fail(new PickleibException("Could not acquire email from " + email + ": " + exception.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * Completes the future of a waiter with a message, if the message matches the filter of the waiter
+     *
+     * @param waiter waiting scenario
+     * @param uid message uid
+     * @return returns true if the message matches
+     */
+    private boolean deliver(Waiter waiter, long uid) throws MessagingException, IOException {
+        if (waiter.future().isDone()) return false;
+        Message message = session.match(uid, waiter.filter(), waiter.filterKey());
+        if (message == null) return false;
+        waiter.future().complete(MailboxSession.detach(message));
+        return true;
+    }
+
+    /**
+     * Fails every waiter with a given exception
+     */
+    private void fail(RuntimeException exception){
+        for (Waiter waiter = pending.poll(); waiter != null; waiter = pending.poll()) waiter.future().completeExceptionally(exception);
+        for (Waiter waiter : waiters) waiter.future().completeExceptionally(exception);
+        waiters.clear();
+    }
+}
@@ -0,0 +1,45 @@
+package pickleib.driver;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import utils.PropertyUtility;
+
+import java.util.Properties;
+
+public class DriverConfigurationTest {
+
+    @After
+    public void restore(){
+        PropertyUtility.properties.remove("headless");
+        DriverConfiguration.reload();
+    }
+
+    @Test
+    public void appliesPropertyChangesOnReload(){
+        PropertyUtility.properties.setProperty("headless", "false");
+        Assert.assertFalse(DriverConfiguration.reload().headless());
+        PropertyUtility.properties.setProperty("headless", "true");
+        Assert.assertFalse(DriverConfiguration.current().headless());
+        Assert.assertTrue(DriverConfiguration.reload().headless());
+        Assert.assertTrue(DriverConfiguration.current().headless());
+    }
+
+    @Test
+    public void readsBooleansLikeBooleanParseBoolean(){
+        Properties properties = new Properties();
+        properties.setProperty("headless", "TRUE");
+        properties.setProperty("delete-cookies", "yes");
+        DriverConfiguration configuration = DriverConfiguration.fromProperties(properties);
+        Assert.assertTrue(configuration.headless());
+        Assert.assertFalse(configuration.deleteCookies());
+    }
+
+    @Test
+    public void derivesOverriddenConfigurations(){
+        DriverConfiguration configuration = DriverConfiguration.fromProperties(new Properties());
+        DriverConfiguration headless = configuration.override("headless", "true");
+        Assert.assertTrue(headless.headless());
+        Assert.assertEquals(configuration, headless.override("headless", "false"));
+    }
+}
@@ -0,0 +1,80 @@
+package pickleib.driver;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import pickleib.driver.fake.FakeBrowser;
+import pickleib.driver.fake.FakeDriver;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DriverPoolTest {
+
+    private final DriverPool.SessionKey key = new DriverPool.SessionKey(DriverFactory.DriverType.CHROME, DriverConfiguration.current());
+    private final List<FakeDriver> launched = new CopyOnWriteArrayList<>();
+    private final AtomicInteger launchBudget = new AtomicInteger(Integer.MAX_VALUE);
+    private DriverPool pool;
+
+    private DriverPool pool(int size, int maxReuse){
+        pool = new DriverPool(size, maxReuse, 60000, key -> {
+            if (launchBudget.getAndDecrement() <= 0) throw new IllegalStateException("No launches left");
+            FakeDriver driver = new FakeDriver(new FakeBrowser().latency(Duration.ofMillis(20)));
+            launched.add(driver);
+            return driver;
+        });
+        return pool;
+    }
+
+    @After
+    public void shutdown(){
+        if (pool != null) pool.shutdown();
+    }
+
+    @Test
+    public void concurrentRefillsDoNotExceedThePoolSize() throws Exception {
+        DriverPool pool = pool(2, 10);
+        ExecutorService callers = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int index = 0; index < 16; index++)
+            callers.submit(() -> {
+                start.await();
+                pool.warmUp(key);
+                return null;
+            });
+        start.countDown();
+        callers.shutdown();
+        Assert.assertTrue(callers.awaitTermination(10, TimeUnit.SECONDS));
+        Thread.sleep(500);
+        Assert.assertEquals(2, launched.size());
+    }
+
+    @Test
+    public void reusesReleasedSessions() throws Exception {
+        DriverPool pool = pool(1, 10);
+        launchBudget.set(1);
+        RemoteWebDriver first = pool.acquire(key);
+        Thread.sleep(300); // The refill fails, so the idle slot stays free
+        Assert.assertTrue(pool.isLeased(first));
+        Assert.assertTrue(pool.release(first));
+        Assert.assertFalse(pool.isLeased(first));
+        Assert.assertSame(first, pool.acquire(key));
+    }
+
+    @Test
+    public void quitsSessionsAfterTheirMaxReuse(){
+        DriverPool pool = pool(1, 1);
+        FakeDriver driver = (FakeDriver) pool.acquire(key);
+        Assert.assertTrue(pool.release(driver));
+        Assert.assertEquals(1, driver.browser().commandCount(DriverCommand.QUIT));
+    }
+
+    @Test
+    public void ignoresDriversThatAreNotLeased(){
+        Assert.assertFalse(pool(1, 10).release(new FakeDriver()));
+    }
+}
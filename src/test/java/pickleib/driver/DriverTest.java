@@ -0,0 +1,96 @@
+package pickleib.driver;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.openqa.selenium.remote.DriverCommand;
+import pickleib.driver.fake.FakeDriver;
+import pickleib.exceptions.PickleibException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class DriverTest {
+
+    @After
+    public void unregister(){
+        Driver.unregister();
+        Driver.driver = null;
+        Driver.wait = null;
+    }
+
+    @Test
+    public void resolvesTheDriverOfTheCurrentThread() throws Exception {
+        FakeDriver driver = new FakeDriver();
+        Driver.setDriver(driver);
+        Assert.assertSame(driver, Driver.getDriver());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {Assert.assertSame("A single driver is shared", driver, executor.submit(Driver::getDriver).get());}
+        finally {executor.shutdownNow();}
+    }
+
+    @Test
+    public void terminatesTheSharedDriverFromAnotherThread() throws Exception {
+        FakeDriver driver = new FakeDriver();
+        Driver.setDriver(driver);
+        Thread hook = new Thread(Driver::terminate);
+        hook.start();
+        hook.join();
+        Assert.assertEquals(1, driver.browser().commandCount(DriverCommand.QUIT));
+    }
+
+    @Test
+    public void terminatesAnAssignedDriver(){
+        FakeDriver driver = new FakeDriver();
+        Driver.driver = driver;
+        Driver.terminate();
+        Assert.assertEquals(1, driver.browser().commandCount(DriverCommand.QUIT));
+        Assert.assertNull(Driver.driver);
+    }
+
+    @Test
+    public void doesNotShareDriversAcrossParallelSessions() throws Exception {
+        CountDownLatch registered = new CountDownLatch(2);
+        CountDownLatch done = new CountDownLatch(1);
+        ExecutorService workers = Executors.newFixedThreadPool(2);
+        try {
+            for (int index = 0; index < 2; index++)
+                workers.submit(() -> {
+                    Driver.setDriver(new FakeDriver());
+                    registered.countDown();
+                    done.await();
+                    Driver.terminate();
+                    return null;
+                });
+            Assert.assertTrue(registered.await(10, TimeUnit.SECONDS));
+            Assert.assertThrows(PickleibException.class, Driver::getDriver);
+        }
+        finally {
+            done.countDown();
+            workers.shutdown();
+            Assert.assertTrue(workers.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void quitsTheDriverOfTheCurrentThreadOnly() throws Exception {
+        FakeDriver shared = new FakeDriver();
+        Driver.setDriver(shared);
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        try {
+            Future<FakeDriver> own = worker.submit(() -> {
+                FakeDriver driver = new FakeDriver();
+                Driver.setDriver(driver);
+                Driver.terminate();
+                return driver;
+            });
+            Assert.assertEquals(1, own.get().browser().commandCount(DriverCommand.QUIT));
+            Assert.assertEquals(0, shared.browser().commandCount(DriverCommand.QUIT));
+            Assert.assertSame(shared, Driver.getDriver());
+        }
+        finally {worker.shutdownNow();}
+    }
+}
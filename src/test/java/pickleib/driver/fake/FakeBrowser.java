@@ -0,0 +1,525 @@
+package pickleib.driver.fake;
+
+import org.openqa.selenium.*;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.remote.*;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * In-memory browser that executes remote driver commands against a scriptable DOM
+ * Supports per-command latency, failure injection (e.g. stale element, click intercepted) & command counting
+ */
+public class FakeBrowser implements CommandExecutor {
+
+    private static final String elementKey = "element-6066-11e4-a52e-4f735466cecf";
+    private static final String windowHandle = "fake-window";
+    private static final String blankScreenshot =
+            "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mP8z8BQDwAEhQGAhKmMIQAAAABJRU5ErkJggg==";
+
+    private final Map<String, Supplier<FakeElement>> pages = new ConcurrentHashMap<>();
+    private final Map<String, FakeElement> elements = new ConcurrentHashMap<>();
+    private final Map<FakeElement, String> elementIds = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Map<String, Duration> latencies = new ConcurrentHashMap<>();
+    private final List<Failure> failures = new CopyOnWriteArrayList<>();
+    private final List<Script> scripts = new CopyOnWriteArrayList<>();
+    private final Map<String, LongAdder> commandCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger elementCounter = new AtomicInteger();
+    private volatile Duration latency = Duration.ZERO;
+    private volatile FakeElement document;
+    private volatile String currentUrl = "about:blank";
+    private volatile boolean quit;
+
+    /**
+     * Executes a script call against the DOM
+     */
+    @FunctionalInterface
+    public interface ScriptHandler {
+        /**
+         * @param script script source
+         * @param arguments script arguments (element references are resolved to fake elements)
+         * @return returns the script result (fake elements are returned as element references)
+         */
+        Object execute(String script, List<Object> arguments);
+    }
+
+    private record Script(Predicate<String> matcher, ScriptHandler handler) {}
+
+    private static class Failure {
+        final String command;
+        final double probability;
+        final Supplier<? extends WebDriverException> exception;
+        final AtomicInteger remaining;
+
+        Failure(String command, int times, double probability, Supplier<? extends WebDriverException> exception){
+            this.command = command;
+            this.remaining = new AtomicInteger(times);
+            this.probability = probability;
+            this.exception = exception;
+        }
+    }
+
+    public FakeBrowser(){
+        document = blankDocument();
+        registerPickleibScripts();
+    }
+
+    /**
+     * Registers a page, served whenever the driver navigates to the url
+     * (a new DOM is built on every navigation, references to the previous DOM become stale)
+     *
+     * @param url page url
+     * @param page builds the page DOM (the returned element is appended to the document)
+     * @return returns this browser
+     */
+    public FakeBrowser page(String url, Supplier<FakeElement> page){
+        pages.put(url, page);
+        return this;
+    }
+
+    /**
+     * Returns the document of the current page
+     *
+     * @return returns the document node
+     */
+    public FakeElement document(){return document;}
+
+    /**
+     * Delays every command by a given duration
+     *
+     * @param latency command latency
+     * @return returns this browser
+     */
+    public FakeBrowser latency(Duration latency){
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * Delays a given command by a given duration, overriding the default latency
+     *
+     * @param command driver command name (e.g. DriverCommand.CLICK_ELEMENT)
+     * @param latency command latency
+     * @return returns this browser
+     */
+    public FakeBrowser latency(String command, Duration latency){
+        latencies.put(command, latency);
+        return this;
+    }
+
+    /**
+     * Fails the next executions of a given command
+     *
+     * @param command driver command name, or "*" for any command
+     * @param times number of executions to fail
+     * @param exception creates the exception to be thrown (e.g. StaleElementReferenceException::new)
+     * @return returns this browser
+     */
+    public FakeBrowser fail(String command, int times, Supplier<? extends WebDriverException> exception){
+        failures.add(new Failure(command, times, 1, exception));
+        return this;
+    }
+
+    /**
+     * Fails executions of a given command randomly
+     *
+     * @param command driver command name, or "*" for any command
+     * @param probability failure probability (0 - 1)
+     * @param exception creates the exception to be thrown
+     * @return returns this browser
+     */
+    public FakeBrowser fail(String command, double probability, Supplier<? extends WebDriverException> exception){
+        failures.add(new Failure(command, -1, probability, exception));
+        return this;
+    }
+
+    /**
+     * Removes every injected failure
+     *
+     * @return returns this browser
+     */
+    public FakeBrowser clearFailures(){
+        failures.clear();
+        return this;
+    }
+
+    /**
+     * Registers a script handler, handlers registered later take precedence
+     *
+     * @param matcher matches the scripts the handler executes
+     * @param handler script handler
+     * @return returns this browser
+     */
+    public FakeBrowser onScript(Predicate<String> matcher, ScriptHandler handler){
+        scripts.add(0, new Script(matcher, handler));
+        return this;
+    }
+
+    /**
+     * Returns the number of executions of a given command
+     *
+     * @param command driver command name
+     * @return returns the command count
+     */
+    public long commandCount(String command){
+        LongAdder count = commandCounts.get(command);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * Returns the number of executions of each command
+     *
+     * @return returns the command counts, by command name
+     */
+    public Map<String, Long> commandCounts(){
+        Map<String, Long> counts = new TreeMap<>();
+        commandCounts.forEach((command, count) -> counts.put(command, count.sum()));
+        return counts;
+    }
+
+    /**
+     * Returns the total number of executed commands
+     *
+     * @return returns the command count
+     */
+    public long totalCommands(){
+        return commandCounts.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Resets the command counts
+     */
+    public void resetCommandCounts(){commandCounts.clear();}
+
+    @Override
+    public Response execute(Command command){
+        String name = command.getName();
+        commandCounts.computeIfAbsent(name, key -> new LongAdder()).increment();
+        delay(latencies.getOrDefault(name, latency));
+        for (Failure failure : failures) {
+            if (!failure.command.equals("*") && !failure.command.equals(name)) continue;
+            if (failure.remaining.get() == 0) continue;
+            if (failure.probability < 1 && ThreadLocalRandom.current().nextDouble() >= failure.probability) continue;
+            if (failure.remaining.get() > 0 && failure.remaining.getAndDecrement() <= 0) continue;
+            throw failure.exception.get();
+        }
+        if (quit && !name.equals(DriverCommand.QUIT))
+            throw new NoSuchSessionException("Session was terminated");
+
+        Map<String, ?> parameters = command.getParameters();
+        Response response = new Response(command.getSessionId());
+        if (name.equals(DriverCommand.NEW_SESSION)) {
+            response = new Response(new SessionId(UUID.randomUUID().toString()));
+            response.setValue(capabilities());
+        }
+        else synchronized (this) {response.setValue(respond(name, parameters));}
+        response.setState("success");
+        response.setStatus(ErrorCodes.SUCCESS);
+        return response;
+    }
+
+    private Object respond(String name, Map<String, ?> parameters){
+        return switch (name) {
+            case DriverCommand.GET -> {
+                navigate((String) parameters.get("url"));
+                yield null;
+            }
+            case DriverCommand.GET_CURRENT_URL -> currentUrl;
+            case DriverCommand.GET_TITLE -> {
+                List<FakeElement> titles = FakeSelectors.find("tag name", "title", document);
+                yield titles.isEmpty() ? "" : titles.get(0).textContent();
+            }
+            case DriverCommand.GET_PAGE_SOURCE -> pageSource(document);
+            case DriverCommand.REFRESH -> {
+                navigate(currentUrl);
+                yield null;
+            }
+            case DriverCommand.FIND_ELEMENT, DriverCommand.FIND_CHILD_ELEMENT -> {
+                List<FakeElement> matches = find(parameters);
+                if (matches.isEmpty())
+                    throw new NoSuchElementException("Unable to locate element: " + parameters.get("using") + " = " + parameters.get("value"));
+                yield reference(matches.get(0));
+            }
+            case DriverCommand.FIND_ELEMENTS, DriverCommand.FIND_CHILD_ELEMENTS -> {
+                List<Object> references = new ArrayList<>();
+                for (FakeElement element : find(parameters)) references.add(reference(element));
+                yield references;
+            }
+            case DriverCommand.CLICK_ELEMENT -> {
+                FakeElement element = element(parameters);
+                if (!element.isDisplayed()) throw new ElementNotInteractableException("Element is not displayed: " + element);
+                if (!element.isEnabled()) throw new ElementClickInterceptedException("Element is disabled: " + element);
+                element.click();
+                yield null;
+            }
+            case DriverCommand.SEND_KEYS_TO_ELEMENT -> {
+                FakeElement element = element(parameters);
+                if (!element.isDisplayed()) throw new ElementNotInteractableException("Element is not displayed: " + element);
+                type(element, keys(parameters.get("value")));
+                yield null;
+            }
+            case DriverCommand.CLEAR_ELEMENT -> {
+                element(parameters).value("");
+                yield null;
+            }
+            case DriverCommand.GET_ELEMENT_TEXT -> element(parameters).visibleText();
+            case DriverCommand.GET_ELEMENT_TAG_NAME -> element(parameters).tagName();
+            case DriverCommand.GET_ELEMENT_ATTRIBUTE, DriverCommand.GET_ELEMENT_DOM_ATTRIBUTE, DriverCommand.GET_ELEMENT_DOM_PROPERTY ->
+                    element(parameters).getAttribute((String) parameters.get("name"));
+            case DriverCommand.GET_ELEMENT_ACCESSIBLE_NAME -> element(parameters).accessibleName();
+            case DriverCommand.GET_ELEMENT_ARIA_ROLE -> element(parameters).getAttribute("role");
+            case DriverCommand.GET_ELEMENT_VALUE_OF_CSS_PROPERTY -> "";
+            case DriverCommand.IS_ELEMENT_DISPLAYED -> element(parameters).isDisplayed();
+            case DriverCommand.IS_ELEMENT_ENABLED -> element(parameters).isEnabled();
+            case DriverCommand.IS_ELEMENT_SELECTED -> element(parameters).isSelected();
+            case DriverCommand.GET_ELEMENT_RECT -> {
+                FakeElement element = element(parameters);
+                boolean displayed = element.isDisplayed();
+                yield Map.of("x", 0, "y", 0, "width", displayed ? 100 : 0, "height", displayed ? 20 : 0);
+            }
+            case DriverCommand.GET_ELEMENT_LOCATION, DriverCommand.GET_ELEMENT_LOCATION_ONCE_SCROLLED_INTO_VIEW -> Map.of("x", 0, "y", 0);
+            case DriverCommand.GET_ELEMENT_SIZE -> Map.of("width", 100, "height", 20);
+            case DriverCommand.EXECUTE_SCRIPT, DriverCommand.EXECUTE_ASYNC_SCRIPT -> {
+                String script = (String) parameters.get("script");
+                List<Object> arguments = new ArrayList<>();
+                Object args = parameters.get("args");
+                if (args instanceof Collection<?> collection) for (Object argument : collection) arguments.add(resolve(argument));
+                yield encode(script(script, arguments));
+            }
+            case DriverCommand.SCREENSHOT, DriverCommand.ELEMENT_SCREENSHOT -> blankScreenshot;
+            case DriverCommand.GET_CURRENT_WINDOW_HANDLE -> windowHandle;
+            case DriverCommand.GET_WINDOW_HANDLES -> List.of(windowHandle);
+            case DriverCommand.CLOSE, DriverCommand.SWITCH_TO_WINDOW, DriverCommand.SWITCH_TO_FRAME,
+                    DriverCommand.SWITCH_TO_PARENT_FRAME, DriverCommand.DELETE_ALL_COOKIES, DriverCommand.ADD_COOKIE,
+                    DriverCommand.DELETE_COOKIE, DriverCommand.SET_TIMEOUT, DriverCommand.GO_BACK, DriverCommand.GO_FORWARD,
+                    DriverCommand.ACTIONS, DriverCommand.CLEAR_ACTIONS_STATE, DriverCommand.SET_CURRENT_WINDOW_SIZE,
+                    DriverCommand.SET_CURRENT_WINDOW_POSITION, DriverCommand.MAXIMIZE_CURRENT_WINDOW -> null;
+            case DriverCommand.GET_ALL_COOKIES -> List.of();
+            case DriverCommand.GET_AVAILABLE_LOG_TYPES -> List.of();
+            case DriverCommand.GET_LOG -> List.of();
+            case DriverCommand.GET_CURRENT_WINDOW_SIZE -> Map.of("width", 1920, "height", 1080);
+            case DriverCommand.QUIT -> {
+                quit = true;
+                elements.clear();
+                yield null;
+            }
+            default -> throw new UnsupportedCommandException("Fake browser does not support " + name);
+        };
+    }
+
+    private void navigate(String url){
+        currentUrl = url;
+        FakeElement page = Optional.ofNullable(pages.get(url)).map(Supplier::get).orElse(null);
+        FakeElement newDocument = new FakeElement("#document");
+        newDocument.append(page != null ? page : new FakeElement("html"));
+        if (page != null && !page.tagName().equals("html")) {
+            newDocument = new FakeElement("#document");
+            newDocument.append("html").append(page);
+        }
+        document = newDocument;
+    }
+
+    private List<FakeElement> find(Map<String, ?> parameters){
+        FakeElement context = parameters.containsKey("id") ? element(parameters) : document;
+        return FakeSelectors.find((String) parameters.get("using"), (String) parameters.get("value"), context);
+    }
+
+    private FakeElement element(Map<String, ?> parameters){
+        String id = String.valueOf(parameters.get("id"));
+        FakeElement element = elements.get(id);
+        if (element == null) throw new NoSuchElementException("Unknown element reference: " + id);
+        if (element.root() != document)
+            throw new StaleElementReferenceException("Element is no longer attached to the DOM: " + element);
+        return element;
+    }
+
+    private Map<String, String> reference(FakeElement element){
+        String id = elementIds.computeIfAbsent(element, key -> "fake-element-" + elementCounter.incrementAndGet());
+        elements.put(id, element);
+        return Map.of(elementKey, id);
+    }
+
+    private Object resolve(Object argument){
+        if (argument instanceof WrapsElement wrapper) argument = wrapper.getWrappedElement();
+        if (argument instanceof RemoteWebElement remoteElement) return element(Map.of("id", remoteElement.getId()));
+        if (argument instanceof Map<?, ?> map && (map.containsKey(elementKey) || map.containsKey("ELEMENT")))
+            return element(Map.of("id", map.containsKey(elementKey) ? map.get(elementKey) : map.get("ELEMENT")));
+        if (argument instanceof Collection<?> collection) {
+            List<Object> resolved = new ArrayList<>();
+            for (Object item : collection) resolved.add(resolve(item));
+            return resolved;
+        }
+        if (argument instanceof Map<?, ?> map) {
+            Map<Object, Object> resolved = new LinkedHashMap<>();
+            map.forEach((key, value) -> resolved.put(key, resolve(value)));
+            return resolved;
+        }
+        return argument;
+    }
+
+    private Object encode(Object result){
+        if (result instanceof FakeElement element) return reference(element);
+        if (result instanceof Collection<?> collection) {
+            List<Object> encoded = new ArrayList<>();
+            for (Object item : collection) encoded.add(encode(item));
+            return encoded;
+        }
+        if (result instanceof Map<?, ?> map) {
+            Map<Object, Object> encoded = new LinkedHashMap<>();
+            map.forEach((key, value) -> encoded.put(key, encode(value)));
+            return encoded;
+        }
+        if (result instanceof Integer number) return number.longValue();
+        return result;
+    }
+
+    private Object script(String script, List<Object> arguments){
+        for (Script candidate : scripts)
+            if (candidate.matcher().test(script)) return candidate.handler().execute(script, arguments);
+        throw new UnsupportedCommandException("No script handler is registered for the script: " + script);
+    }
+
+    /**
+     * Matches the scripts that start with a given Pickleib marker comment (e.g. the click script starts with a pickleib:click comment)
+     *
+     * @param name script name
+     * @return returns a matcher for the script
+     */
+    private static Predicate<String> pickleibScript(String name){
+        String marker = "/*pickleib:" + name + "*/";
+        return script -> script.startsWith(marker);
+    }
+
+    /**
+     * Types keys into an element, supports backspace, delete & select-all chords
+     */
+    private static void type(FakeElement element, String keys){
+        StringBuilder value = new StringBuilder(element.value());
+        boolean modifier = false;
+        boolean allSelected = false;
+        for (char key : keys.toCharArray()) {
+            if (key == Keys.CONTROL.charAt(0) || key == Keys.COMMAND.charAt(0)) modifier = true;
+            else if (key == Keys.NULL.charAt(0)) modifier = false;
+            else if (modifier && (key == 'a' || key == 'A')) allSelected = true;
+            else if (key == Keys.BACK_SPACE.charAt(0) || key == Keys.DELETE.charAt(0)) {
+                if (allSelected) value.setLength(0);
+                else if (key == Keys.BACK_SPACE.charAt(0) && value.length() > 0) value.setLength(value.length() - 1);
+                allSelected = false;
+            }
+            else if (key >= '\uE000' && key <= '\uF8FF') continue;
+            else {
+                if (allSelected) value.setLength(0);
+                allSelected = false;
+                value.append(key);
+            }
+        }
+        element.value(value.toString());
+    }
+
+    private static String keys(Object value){
+        StringBuilder keys = new StringBuilder();
+        if (value instanceof Collection<?> collection) for (Object key : collection) keys.append(key);
+        else if (value instanceof Object[] array) for (Object key : array) keys.append(key);
+        else if (value != null) keys.append(value);
+        return keys.toString();
+    }
+
+    private static void delay(Duration duration){
+        if (duration.isZero() || duration.isNegative()) return;
+        try {Thread.sleep(duration.toMillis(), duration.toNanosPart() % 1_000_000);}
+        catch (InterruptedException exception) {Thread.currentThread().interrupt();}
+    }
+
+    private static Map<String, Object> capabilities(){
+        Map<String, Object> capabilities = new HashMap<>();
+        capabilities.put("browserName", "fake");
+        capabilities.put("browserVersion", "1.0");
+        capabilities.put("platformName", Platform.getCurrent().family() == null ?
+                Platform.getCurrent().name().toLowerCase() :
+                Platform.getCurrent().family().name().toLowerCase()
+        );
+        capabilities.put("acceptInsecureCerts", false);
+        return capabilities;
+    }
+
+    private static FakeElement blankDocument(){
+        FakeElement document = new FakeElement("#document");
+        document.append("html").append("body");
+        return document;
+    }
+
+    private static String pageSource(FakeElement element){
+        StringBuilder source = new StringBuilder();
+        for (FakeElement child : element.children()) {
+            source.append(child).append(child.ownText()).append(pageSource(child)).append("</").append(child.tagName()).append('>');
+        }
+        return source.toString();
+    }
+
+    /**
+     * Registers handlers for the scripts Pickleib executes, scripts are matched by their leading marker comment
+     */
+    @SuppressWarnings("unchecked")
+    private void registerPickleibScripts(){
+        onScript(pickleibScript("clear-storage"), (script, arguments) -> null);
+        onScript(pickleibScript("click"), (script, arguments) -> {
+            ((FakeElement) arguments.get(0)).click();
+            return null;
+        });
+        onScript(pickleibScript("center"), (script, arguments) -> true);
+        onScript(pickleibScript("element-object"), (script, arguments) ->
+                new LinkedHashMap<>(((FakeElement) arguments.get(0)).attributes())
+        );
+        onScript(pickleibScript("clear"), (script, arguments) -> {
+            ((FakeElement) arguments.get(0)).value("");
+            return "";
+        });
+        onScript(pickleibScript("displayed"), (script, arguments) -> {
+            List<Object> states = new ArrayList<>();
+            for (Object element : (List<Object>) arguments.get(0)) states.add(((FakeElement) element).isDisplayed());
+            return states;
+        });
+        onScript(pickleibScript("xpath"), (script, arguments) -> {
+            StringBuilder path = new StringBuilder();
+            for (FakeElement element = (FakeElement) arguments.get(0); element.parent() != null; element = element.parent()) {
+                int index = 1;
+                for (FakeElement sibling : element.parent().children()) {
+                    if (sibling == element) break;
+                    if (sibling.tagName().equals(element.tagName())) index++;
+                }
+                path.insert(0, "/" + element.tagName() + "[" + index + "]");
+            }
+            return path.toString();
+        });
+        onScript(pickleibScript("parent-by-class"), (script, arguments) -> {
+            for (FakeElement element = (FakeElement) arguments.get(0); element != null; element = element.parent()) {
+                String className = element.getAttribute("class");
+                if (className != null && className.contains((String) arguments.get(1))) return element;
+            }
+            return null;
+        });
+        onScript(pickleibScript("snapshot"), (script, arguments) -> {
+            List<Object> snapshots = new ArrayList<>();
+            List<Object> attributeNames = (List<Object>) arguments.get(1);
+            for (Object target : (List<Object>) arguments.get(0)) {
+                FakeElement element = (FakeElement) target;
+                Map<String, Object> attributes = new HashMap<>();
+                for (Object attributeName : attributeNames)
+                    attributes.put((String) attributeName, element.getAttribute((String) attributeName));
+                Map<String, Object> snapshot = new HashMap<>();
+                snapshot.put("text", element.visibleText().trim());
+                snapshot.put("attributes", attributes);
+                snapshots.add(snapshot);
+            }
+            return snapshots;
+        });
+    }
+}
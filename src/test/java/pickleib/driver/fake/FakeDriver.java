@@ -0,0 +1,32 @@
+package pickleib.driver.fake;
+
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * RemoteWebDriver backed by an in-memory FakeBrowser, for running the acquisition & interaction layers without a browser
+ * Register it through Driver.setDriver(new FakeDriver()) and configure the DOM, latency & failures through browser()
+ */
+public class FakeDriver extends RemoteWebDriver {
+
+    private final FakeBrowser browser;
+
+    public FakeDriver(){this(new FakeBrowser());}
+
+    /**
+     * Creates a fake driver on a given fake browser
+     *
+     * @param browser fake browser
+     */
+    public FakeDriver(FakeBrowser browser){
+        super(browser, new ImmutableCapabilities("browserName", "fake"));
+        this.browser = browser;
+    }
+
+    /**
+     * Returns the fake browser executing the commands of this driver
+     *
+     * @return returns the fake browser
+     */
+    public FakeBrowser browser(){return browser;}
+}
@@ -0,0 +1,251 @@
+package pickleib.driver.fake;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Node of the in-memory DOM served by FakeBrowser
+ */
+public class FakeElement {
+
+    private final String tagName;
+    private final Map<String, String> attributes = new LinkedHashMap<>();
+    private final List<FakeElement> children = new ArrayList<>();
+    private FakeElement parent;
+    private String text = "";
+    private String value = "";
+    private boolean displayed = true;
+    private boolean enabled = true;
+    private boolean selected;
+    private Consumer<FakeElement> clickHandler;
+
+    /**
+     * Creates a detached element
+     *
+     * @param tagName element tag name
+     */
+    public FakeElement(String tagName){this.tagName = tagName.toLowerCase();}
+
+    /**
+     * Creates a child element and appends it to this element
+     *
+     * @param tagName child tag name
+     * @return returns the child element
+     */
+    public FakeElement append(String tagName){
+        FakeElement child = new FakeElement(tagName);
+        append(child);
+        return child;
+    }
+
+    /**
+     * Appends a given element to this element (the element is detached from its current parent first)
+     *
+     * @param child target element
+     * @return returns this element
+     */
+    public synchronized FakeElement append(FakeElement child){
+        if (child.parent != null) child.remove();
+        child.parent = this;
+        children.add(child);
+        return this;
+    }
+
+    /**
+     * Detaches this element from its parent, references to it become stale
+     *
+     * @return returns this element
+     */
+    public FakeElement remove(){
+        FakeElement currentParent = parent;
+        if (currentParent != null) synchronized (currentParent) {
+            currentParent.children.remove(this);
+            parent = null;
+        }
+        return this;
+    }
+
+    public FakeElement attribute(String name, String value){
+        if (name.equals("value")) this.value = value;
+        else if (value == null) attributes.remove(name);
+        else attributes.put(name, value);
+        return this;
+    }
+
+    public FakeElement text(String text){
+        this.text = text;
+        return this;
+    }
+
+    public FakeElement value(String value){
+        this.value = value;
+        return this;
+    }
+
+    public FakeElement displayed(boolean displayed){
+        this.displayed = displayed;
+        return this;
+    }
+
+    public FakeElement enabled(boolean enabled){
+        this.enabled = enabled;
+        return this;
+    }
+
+    public FakeElement selected(boolean selected){
+        this.selected = selected;
+        return this;
+    }
+
+    /**
+     * Registers a handler that runs when the element is clicked (e.g. to reveal or remove other elements)
+     *
+     * @param clickHandler click handler
+     * @return returns this element
+     */
+    public FakeElement onClick(Consumer<FakeElement> clickHandler){
+        this.clickHandler = clickHandler;
+        return this;
+    }
+
+    public String tagName(){return tagName;}
+
+    public String ownText(){return text;}
+
+    public String value(){return value;}
+
+    public FakeElement parent(){return parent;}
+
+    public synchronized List<FakeElement> children(){return List.copyOf(children);}
+
+    /**
+     * Returns an attribute of the element (value resolves to the current input value)
+     *
+     * @param name attribute name
+     * @return returns the attribute value, or null if the element does not have the attribute
+     */
+    public String getAttribute(String name){
+        if (name.equals("value")) return isInput() ? value : attributes.get(name);
+        return attributes.get(name);
+    }
+
+    public Map<String, String> attributes(){return Collections.unmodifiableMap(attributes);}
+
+    /**
+     * Returns the text of the element and its descendants
+     *
+     * @return returns the text content
+     */
+    public String textContent(){
+        StringBuilder content = new StringBuilder(text);
+        for (FakeElement child : children()) {
+            String childText = child.textContent();
+            if (childText.isEmpty()) continue;
+            if (content.length() > 0) content.append(' ');
+            content.append(childText);
+        }
+        return content.toString();
+    }
+
+    /**
+     * Returns the rendered text of the element
+     *
+     * @return returns the text content of displayed descendants, empty if the element is not displayed
+     */
+    public String visibleText(){
+        if (!isDisplayed()) return "";
+        StringBuilder content = new StringBuilder(text);
+        for (FakeElement child : children()) {
+            String childText = child.visibleText();
+            if (childText.isEmpty()) continue;
+            if (content.length() > 0) content.append(' ');
+            content.append(childText);
+        }
+        return content.toString();
+    }
+
+    /**
+     * Returns an approximation of the accessible name of the element
+     *
+     * @return returns the aria-label, alt, title, placeholder or the text content of the element
+     */
+    public String accessibleName(){
+        for (String attribute : List.of("aria-label", "alt", "title", "placeholder")) {
+            String name = attributes.get(attribute);
+            if (name != null && !name.isBlank()) return name.trim();
+        }
+        return textContent().trim();
+    }
+
+    /**
+     * Checks if the element and all of its ancestors are displayed
+     *
+     * @return returns true if the element is displayed
+     */
+    public boolean isDisplayed(){
+        for (FakeElement element = this; element != null; element = element.parent)
+            if (!element.displayed) return false;
+        return true;
+    }
+
+    public boolean isEnabled(){return enabled;}
+
+    public boolean isSelected(){return selected;}
+
+    public boolean isInput(){return tagName.equals("input") || tagName.equals("textarea") || tagName.equals("select");}
+
+    /**
+     * Checks if the element has a given class
+     *
+     * @param className class name
+     * @return returns true if the class attribute contains the class name
+     */
+    public boolean hasClass(String className){
+        String classes = attributes.get("class");
+        if (classes == null) return false;
+        for (String name : classes.trim().split("\\s+")) if (name.equals(className)) return true;
+        return false;
+    }
+
+    /**
+     * Returns the root of the tree this element belongs to
+     *
+     * @return returns the root element
+     */
+    public FakeElement root(){
+        FakeElement element = this;
+        while (element.parent != null) element = element.parent;
+        return element;
+    }
+
+    /**
+     * Returns every descendant of the element, in document order
+     *
+     * @return returns the descendants
+     */
+    public List<FakeElement> descendants(){
+        List<FakeElement> descendants = new ArrayList<>();
+        for (FakeElement child : children()) {
+            descendants.add(child);
+            descendants.addAll(child.descendants());
+        }
+        return descendants;
+    }
+
+    void click(){
+        if (clickHandler != null) clickHandler.accept(this);
+        if (tagName.equals("input")) {
+            String type = attributes.getOrDefault("type", "text");
+            if (type.equals("checkbox")) selected = !selected;
+            else if (type.equals("radio")) selected = true;
+        }
+        else if (tagName.equals("option")) selected = true;
+    }
+
+    @Override
+    public String toString(){
+        StringBuilder description = new StringBuilder("<" + tagName);
+        attributes.forEach((name, attributeValue) -> description.append(' ').append(name).append("=\"").append(attributeValue).append('"'));
+        return description.append('>').toString();
+    }
+}
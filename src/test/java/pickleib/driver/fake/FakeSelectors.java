@@ -0,0 +1,336 @@
+package pickleib.driver.fake;
+
+import org.openqa.selenium.InvalidSelectorException;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Evaluates locators against the in-memory DOM
+ * Supports id, name, class name, tag name, link text, a css subset (tag, #id, .class, [attribute operator value],
+ * descendant & child combinators, selector groups) and an xpath subset (child & descendant steps, attribute, text,
+ * contains & starts-with predicates, positions)
+ */
+final class FakeSelectors {
+
+    private static final Pattern cssAttribute = Pattern.compile(
+            "\\[\\s*([\\w-]+)\\s*(?:([~*^$|]?=)\\s*(?:'([^']*)'|\"([^\"]*)\"|([^\\]\\s]+))\\s*)?]"
+    );
+    private static final Pattern xpathCondition = Pattern.compile(
+            "^(?:(contains|starts-with)\\(\\s*(@[\\w-]+|text\\(\\)|\\.|normalize-space\\((?:\\.|text\\(\\))?\\))\\s*,\\s*(?:'([^']*)'|\"([^\"]*)\")\\s*\\)" +
+            "|(@[\\w-]+|text\\(\\)|\\.|normalize-space\\((?:\\.|text\\(\\))?\\))\\s*(?:(!?=)\\s*(?:'([^']*)'|\"([^\"]*)\"))?)$"
+    );
+
+    private FakeSelectors(){}
+
+    /**
+     * Finds the elements matching a locator
+     *
+     * @param using locator strategy (as sent by the remote driver)
+     * @param value locator value
+     * @param context element to search within
+     * @return returns the matching elements, in document order
+     */
+    static List<FakeElement> find(String using, String value, FakeElement context){
+        return switch (using) {
+            case "id" -> filter(context, element -> value.equals(element.getAttribute("id")));
+            case "name" -> filter(context, element -> value.equals(element.getAttribute("name")));
+            case "class name" -> filter(context, element -> element.hasClass(value));
+            case "tag name" -> filter(context, element -> element.tagName().equalsIgnoreCase(value));
+            case "link text" -> filter(context, element -> element.tagName().equals("a") && element.visibleText().trim().equals(value));
+            case "partial link text" -> filter(context, element -> element.tagName().equals("a") && element.visibleText().contains(value));
+            case "css selector" -> css(value, context);
+            case "xpath" -> xpath(value, context);
+            default -> throw new InvalidSelectorException("Unsupported locator strategy: " + using);
+        };
+    }
+
+    private static List<FakeElement> filter(FakeElement context, Predicate<FakeElement> condition){
+        List<FakeElement> matches = new ArrayList<>();
+        for (FakeElement element : context.descendants()) if (condition.test(element)) matches.add(element);
+        return matches;
+    }
+
+    private static List<FakeElement> css(String selector, FakeElement context){
+        Set<FakeElement> matches = new LinkedHashSet<>();
+        for (String group : split(selector, ',')) {
+            List<FakeElement> current = List.of(context);
+            boolean child = false;
+            for (String token : cssTokens(group.trim())) {
+                if (token.equals(">")) {
+                    child = true;
+                    continue;
+                }
+                Predicate<FakeElement> compound = cssCompound(token, selector);
+                Set<FakeElement> next = new LinkedHashSet<>();
+                for (FakeElement element : current)
+                    for (FakeElement candidate : child ? element.children() : element.descendants())
+                        if (compound.test(candidate)) next.add(candidate);
+                current = new ArrayList<>(next);
+                child = false;
+            }
+            matches.addAll(current);
+        }
+        return inDocumentOrder(matches, context);
+    }
+
+    private static List<String> cssTokens(String selector){
+        List<String> tokens = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        char quote = 0;
+        int depth = 0;
+        for (char character : selector.toCharArray()) {
+            if (quote != 0) {
+                if (character == quote) quote = 0;
+                token.append(character);
+                continue;
+            }
+            if (character == '\'' || character == '"') quote = character;
+            if (character == '[') depth++;
+            if (character == ']') depth--;
+            if (depth == 0 && (Character.isWhitespace(character) || character == '>')) {
+                if (token.length() > 0) tokens.add(token.toString());
+                token.setLength(0);
+                if (character == '>') tokens.add(">");
+                continue;
+            }
+            token.append(character);
+        }
+        if (token.length() > 0) tokens.add(token.toString());
+        if (tokens.isEmpty()) throw new InvalidSelectorException("Empty css selector: " + selector);
+        return tokens;
+    }
+
+    private static Predicate<FakeElement> cssCompound(String compound, String selector){
+        Predicate<FakeElement> condition = element -> true;
+        int index = 0;
+        Matcher tag = Pattern.compile("^([\\w-]+|\\*)").matcher(compound);
+        if (tag.find()) {
+            String tagName = tag.group(1);
+            if (!tagName.equals("*")) condition = element -> element.tagName().equalsIgnoreCase(tagName);
+            index = tag.end();
+        }
+        while (index < compound.length()) {
+            char prefix = compound.charAt(index);
+            if (prefix == '#' || prefix == '.') {
+                Matcher name = Pattern.compile("[\\w-]+").matcher(compound);
+                if (!name.find(index + 1) || name.start() != index + 1)
+                    throw new InvalidSelectorException("Unsupported css selector: " + selector);
+                String identifier = name.group();
+                condition = condition.and(prefix == '#' ?
+                        element -> identifier.equals(element.getAttribute("id")) :
+                        element -> element.hasClass(identifier)
+                );
+                index = name.end();
+            }
+            else if (prefix == '[') {
+                Matcher attribute = cssAttribute.matcher(compound);
+                if (!attribute.find(index) || attribute.start() != index)
+                    throw new InvalidSelectorException("Unsupported css selector: " + selector);
+                String name = attribute.group(1);
+                String operator = attribute.group(2);
+                String expected = firstNonNull(attribute.group(3), attribute.group(4), attribute.group(5));
+                condition = condition.and(element -> {
+                    String actual = element.getAttribute(name);
+                    if (actual == null) return false;
+                    if (operator == null) return true;
+                    return switch (operator) {
+                        case "=" -> actual.equals(expected);
+                        case "~=" -> Arrays.asList(actual.trim().split("\\s+")).contains(expected);
+                        case "*=" -> actual.contains(expected);
+                        case "^=" -> actual.startsWith(expected);
+                        case "$=" -> actual.endsWith(expected);
+                        case "|=" -> actual.equals(expected) || actual.startsWith(expected + "-");
+                        default -> false;
+                    };
+                });
+                index = attribute.end();
+            }
+            else throw new InvalidSelectorException("Unsupported css selector: " + selector);
+        }
+        return condition;
+    }
+
+    private static List<FakeElement> xpath(String expression, FakeElement context){
+        String path = expression.trim();
+        List<FakeElement> current;
+        int index;
+        if (path.startsWith("/")) {
+            current = List.of(context.root());
+            index = 0;
+        }
+        else {
+            current = List.of(context);
+            index = 0;
+            path = "/" + path;
+        }
+        while (index < path.length()) {
+            boolean descendant = path.startsWith("//", index);
+            index += descendant ? 2 : 1;
+            int end = stepEnd(path, index);
+            String step = path.substring(index, end).trim();
+            index = end;
+            current = xpathStep(step, current, descendant, expression);
+        }
+        return inDocumentOrder(new LinkedHashSet<>(current), context.root());
+    }
+
+    private static int stepEnd(String path, int start){
+        char quote = 0;
+        int depth = 0;
+        for (int index = start; index < path.length(); index++) {
+            char character = path.charAt(index);
+            if (quote != 0) {
+                if (character == quote) quote = 0;
+                continue;
+            }
+            if (character == '\'' || character == '"') quote = character;
+            else if (character == '[' || character == '(') depth++;
+            else if (character == ']' || character == ')') depth--;
+            else if (character == '/' && depth == 0) return index;
+        }
+        return path.length();
+    }
+
+    private static List<FakeElement> xpathStep(String step, List<FakeElement> current, boolean descendant, String expression){
+        int predicateStart = step.indexOf('[');
+        String nodeTest = (predicateStart < 0 ? step : step.substring(0, predicateStart)).trim();
+        List<String> predicates = predicateStart < 0 ? List.of() : predicates(step.substring(predicateStart), expression);
+
+        Set<FakeElement> next = new LinkedHashSet<>();
+        for (FakeElement element : current) {
+            List<FakeElement> candidates;
+            switch (nodeTest) {
+                case "." -> candidates = descendant ? selfAndDescendants(element) : List.of(element);
+                case ".." -> candidates = element.parent() == null ? List.of() : List.of(element.parent());
+                default -> {
+                    if (!nodeTest.equals("*") && !nodeTest.matches("[\\w-]+"))
+                        throw new InvalidSelectorException("Unsupported xpath: " + expression);
+                    candidates = new ArrayList<>();
+                    for (FakeElement candidate : descendant ? element.descendants() : element.children())
+                        if (nodeTest.equals("*") || candidate.tagName().equalsIgnoreCase(nodeTest)) candidates.add(candidate);
+                }
+            }
+            for (String predicate : predicates) candidates = applyPredicate(predicate, candidates, expression);
+            next.addAll(candidates);
+        }
+        return new ArrayList<>(next);
+    }
+
+    private static List<String> predicates(String predicateList, String expression){
+        List<String> predicates = new ArrayList<>();
+        int depth = 0;
+        char quote = 0;
+        int start = -1;
+        for (int index = 0; index < predicateList.length(); index++) {
+            char character = predicateList.charAt(index);
+            if (quote != 0) {
+                if (character == quote) quote = 0;
+                continue;
+            }
+            if (character == '\'' || character == '"') quote = character;
+            else if (character == '[') {
+                if (depth++ == 0) start = index + 1;
+            }
+            else if (character == ']') {
+                if (--depth == 0) predicates.add(predicateList.substring(start, index).trim());
+            }
+            else if (depth == 0 && !Character.isWhitespace(character))
+                throw new InvalidSelectorException("Unsupported xpath: " + expression);
+        }
+        return predicates;
+    }
+
+    private static List<FakeElement> applyPredicate(String predicate, List<FakeElement> candidates, String expression){
+        if (predicate.matches("\\d+")) {
+            int position = Integer.parseInt(predicate);
+            return position <= candidates.size() ? List.of(candidates.get(position - 1)) : List.of();
+        }
+        if (predicate.equals("last()")) return candidates.isEmpty() ? List.of() : List.of(candidates.get(candidates.size() - 1));
+        List<Predicate<FakeElement>> conditions = new ArrayList<>();
+        for (String condition : predicate.split("\\s+and\\s+")) conditions.add(xpathCondition(condition.trim(), expression));
+        List<FakeElement> matches = new ArrayList<>();
+        for (FakeElement candidate : candidates)
+            if (conditions.stream().allMatch(condition -> condition.test(candidate))) matches.add(candidate);
+        return matches;
+    }
+
+    private static Predicate<FakeElement> xpathCondition(String condition, String expression){
+        Matcher matcher = xpathCondition.matcher(condition);
+        if (!matcher.matches()) throw new InvalidSelectorException("Unsupported xpath: " + expression);
+        if (matcher.group(1) != null) {
+            String function = matcher.group(1);
+            String operand = matcher.group(2);
+            String expected = firstNonNull(matcher.group(3), matcher.group(4));
+            return element -> {
+                String actual = operand(operand, element);
+                if (actual == null) return false;
+                return function.equals("contains") ? actual.contains(expected) : actual.startsWith(expected);
+            };
+        }
+        String operand = matcher.group(5);
+        String operator = matcher.group(6);
+        String expected = firstNonNull(matcher.group(7), matcher.group(8));
+        return element -> {
+            String actual = operand(operand, element);
+            if (operator == null) return actual != null && (operand.startsWith("@") || !actual.isEmpty());
+            if (actual == null) return false;
+            return operator.equals("=") == actual.equals(expected);
+        };
+    }
+
+    private static String operand(String operand, FakeElement element){
+        if (operand.startsWith("@")) return element.getAttribute(operand.substring(1));
+        return switch (operand) {
+            case "text()" -> element.ownText();
+            case "." -> element.textContent();
+            case "normalize-space()", "normalize-space(.)" -> element.textContent().trim().replaceAll("\\s+", " ");
+            case "normalize-space(text())" -> element.ownText().trim().replaceAll("\\s+", " ");
+            default -> null;
+        };
+    }
+
+    private static List<FakeElement> selfAndDescendants(FakeElement element){
+        List<FakeElement> elements = new ArrayList<>();
+        elements.add(element);
+        elements.addAll(element.descendants());
+        return elements;
+    }
+
+    private static List<FakeElement> inDocumentOrder(Set<FakeElement> matches, FakeElement context){
+        if (matches.size() < 2) return new ArrayList<>(matches);
+        List<FakeElement> ordered = new ArrayList<>();
+        for (FakeElement element : selfAndDescendants(context.root())) if (matches.contains(element)) ordered.add(element);
+        return ordered;
+    }
+
+    private static List<String> split(String selector, char separator){
+        List<String> parts = new ArrayList<>();
+        StringBuilder part = new StringBuilder();
+        char quote = 0;
+        int depth = 0;
+        for (char character : selector.toCharArray()) {
+            if (quote != 0) {
+                if (character == quote) quote = 0;
+            }
+            else if (character == '\'' || character == '"') quote = character;
+            else if (character == '[' || character == '(') depth++;
+            else if (character == ']' || character == ')') depth--;
+            else if (character == separator && depth == 0) {
+                parts.add(part.toString());
+                part.setLength(0);
+                continue;
+            }
+            part.append(character);
+        }
+        parts.add(part.toString());
+        return parts;
+    }
+
+    private static String firstNonNull(String... values){
+        for (String value : values) if (value != null) return value;
+        return null;
+    }
+}
@@ -0,0 +1,62 @@
+package pickleib.utilities;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import pickleib.driver.fake.FakeDriver;
+import pickleib.driver.fake.FakeElement;
+import pickleib.enums.SelectorType;
+import pickleib.exceptions.PickleibException;
+
+public class JsonObjectRepositoryTest {
+
+    private final JsonObject json = JsonParser.parseString("""
+            {"pages": [{"name": "LoginPage", "elements": [
+                {"name": "username", "id": "username", "cssSelector": "input[name='user']"},
+                {"name": "submit", "text": "Sign in"}
+            ]}]}
+            """).getAsJsonObject();
+
+    private final FakeDriver driver = new FakeDriver();
+
+    @Before
+    public void open(){
+        driver.browser().page("https://pickleib.test/login", () -> {
+            FakeElement html = new FakeElement("html");
+            FakeElement body = html.append("body");
+            body.append("input").attribute("id", "username").attribute("name", "user");
+            body.append("button").text("Sign in");
+            return html;
+        });
+        driver.get("https://pickleib.test/login");
+    }
+
+    @Test
+    public void indexesEachJsonOnce(){
+        Assert.assertSame(JsonObjectRepository.of(json), JsonObjectRepository.of(json));
+        Assert.assertNotSame(JsonObjectRepository.of(json), JsonObjectRepository.of(json.deepCopy()));
+    }
+
+    @Test
+    public void compilesLocatorsOfEverySelectorType(){
+        JsonObjectRepository.Element username = JsonObjectRepository.of(json).element("username", "LoginPage");
+        Assert.assertEquals(By.id("username"), username.locator(SelectorType.id));
+        Assert.assertEquals("user", driver.findElement(username.locator(SelectorType.css)).getAttribute("name"));
+        Assert.assertEquals("input", driver.findElement(username.locator(SelectorType.id, SelectorType.css)).getTagName());
+
+        JsonObjectRepository.Element submit = JsonObjectRepository.of(json).element("submit", "LoginPage");
+        Assert.assertEquals("button", driver.findElement(submit.locator(SelectorType.text)).getTagName());
+    }
+
+    @Test
+    public void rejectsMissingPagesElementsAndSelectors(){
+        JsonObjectRepository repository = JsonObjectRepository.of(json);
+        Assert.assertThrows(PickleibException.class, () -> repository.element("username", "HomePage"));
+        Assert.assertThrows(PickleibException.class, () -> repository.element("password", "LoginPage"));
+        Assert.assertThrows(PickleibException.class, () -> repository.element("submit", "LoginPage").locator(SelectorType.xpath));
+        Assert.assertNull(repository.elementJson("password", "LoginPage"));
+    }
+}
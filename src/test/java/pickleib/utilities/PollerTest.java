@@ -0,0 +1,66 @@
+package pickleib.utilities;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.DriverCommand;
+import pickleib.driver.fake.FakeDriver;
+import pickleib.driver.fake.FakeElement;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class PollerTest {
+
+    @Test
+    public void retriesUntilTheAttemptSucceeds(){
+        FakeDriver driver = new FakeDriver();
+        driver.browser().page("https://pickleib.test", () -> {
+            FakeElement html = new FakeElement("html");
+            html.append("body").append("button").attribute("id", "save");
+            return html;
+        });
+        driver.get("https://pickleib.test");
+        driver.browser().fail(DriverCommand.FIND_ELEMENT, 2, () -> new NoSuchElementException("Not rendered yet"));
+
+        Poller.PollResult<WebElement> result = new Poller(5000, 10, 50, 2, 0).poll(() -> driver.findElement(By.id("save")));
+
+        Assert.assertTrue(result.satisfied());
+        Assert.assertEquals(3, result.polls());
+        Assert.assertTrue(result.lastException() instanceof NoSuchElementException);
+        Assert.assertSame(result, Poller.lastResult());
+    }
+
+    @Test
+    public void givesUpAtTheDeadline(){
+        Poller.PollResult<Object> result = new Poller(200, 10, 50, 2, 0.2).poll(() -> {
+            throw new StaleElementReferenceException("Detached");
+        });
+
+        Assert.assertFalse(result.satisfied());
+        Assert.assertFalse(result.cancelled());
+        Assert.assertTrue(result.elapsed() >= 200);
+        Assert.assertTrue(result.lastException() instanceof StaleElementReferenceException);
+    }
+
+    @Test
+    public void treatsFalseAsUnsatisfied(){
+        Poller.PollResult<Boolean> result = new Poller(100, 10, 10, 1, 0).poll(() -> false);
+        Assert.assertFalse(result.satisfied());
+        Assert.assertTrue(result.polls() > 1);
+    }
+
+    @Test
+    public void stopsWhenCancelled() throws Exception {
+        Poller poller = new Poller(10000, 10, 10, 1, 0);
+        CompletableFuture<Poller.PollResult<Object>> wait = CompletableFuture.supplyAsync(() -> poller.poll(() -> null));
+        Thread.sleep(100);
+        poller.cancel();
+        Poller.PollResult<Object> result = wait.get(5, TimeUnit.SECONDS);
+        Assert.assertTrue(result.cancelled());
+        Assert.assertTrue(result.elapsed() < 10000);
+    }
+}
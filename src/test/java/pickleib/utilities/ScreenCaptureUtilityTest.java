@@ -0,0 +1,46 @@
+package pickleib.utilities;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import pickleib.driver.fake.FakeDriver;
+import utils.PropertyUtility;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ScreenCaptureUtilityTest {
+
+    private final List<File> files = new ArrayList<>();
+
+    @After
+    public void cleanUp(){
+        PropertyUtility.properties.remove("screenshot-format");
+        for (File file : files) file.delete();
+    }
+
+    @Test
+    public void returnsWrittenScreenshots(){
+        File screenshot = new ScreenCaptureUtility().captureScreen("capture-test", new FakeDriver());
+        files.add(screenshot);
+        Assert.assertTrue(screenshot.getName().endsWith(".png"));
+        Assert.assertTrue(screenshot.isFile());
+    }
+
+    @Test
+    public void encodesJpgScreenshots(){
+        PropertyUtility.properties.setProperty("screenshot-format", "jpg");
+        File screenshot = new ScreenCaptureUtility().captureScreen("capture-test", new FakeDriver());
+        files.add(screenshot);
+        Assert.assertTrue(screenshot.getName().endsWith(".jpg"));
+        Assert.assertTrue(screenshot.length() > 0);
+    }
+
+    @Test
+    public void returnsNullIfTheScreenCannotBeCaptured(){
+        FakeDriver driver = new FakeDriver();
+        driver.quit();
+        Assert.assertNull(new ScreenCaptureUtility().captureScreen("capture-test", driver));
+    }
+}
@@ -0,0 +1,54 @@
+package pickleib.utilities;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import utils.PropertyUtility;
+
+public class TemplateResolverTest {
+
+    @Before
+    public void setProperties(){
+        PropertyUtility.properties.setProperty("template-user", "pickleib");
+    }
+
+    @Test
+    public void resolvesWholeInputMarkers(){
+        Assert.assertEquals("pickleib", TemplateResolver.resolve("PROPERTY-template-user"));
+    }
+
+    @Test
+    public void resolvesEmbeddedMarkers(){
+        Assert.assertEquals(
+                "Hello pickleib, bye pickleib!",
+                TemplateResolver.resolve("Hello {{PROPERTY-template-user}}, bye {{ PROPERTY-template-user }}!")
+        );
+    }
+
+    @Test
+    public void keepsPlaceholdersWithoutMarkerPrefix(){
+        Assert.assertEquals("Hello {{name}}", TemplateResolver.resolve("Hello {{name}}"));
+        Assert.assertEquals("{{name}}", TemplateResolver.resolve("{{name}}"));
+        Assert.assertEquals(
+                "{{name}} is pickleib",
+                TemplateResolver.resolve("{{name}} is {{PROPERTY-template-user}}")
+        );
+    }
+
+    @Test
+    public void keepsUnterminatedPlaceholders(){
+        Assert.assertEquals("pickleib {{PROPERTY-template-user", TemplateResolver.resolve("{{PROPERTY-template-user}} {{PROPERTY-template-user"));
+    }
+
+    @Test
+    public void resolvesRandomMarkersOnEveryCall(){
+        String first = TemplateResolver.resolve("code: {{RANDOM-NUMBER-L=12}}");
+        Assert.assertTrue(first.matches("code: \\d{12}"));
+        Assert.assertNotEquals(first, TemplateResolver.resolve("code: {{RANDOM-NUMBER-L=12}}"));
+    }
+
+    @Test
+    public void returnsNullForNullInput(){
+        Assert.assertNull(TemplateResolver.resolve(null));
+    }
+}
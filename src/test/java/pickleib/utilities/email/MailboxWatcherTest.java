@@ -0,0 +1,64 @@
+package pickleib.utilities.email;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.TimeoutException;
+import pickleib.utilities.email.fake.FakeMailServer;
+import utils.EmailUtilities.Inbox.EmailField;
+
+import javax.mail.Message;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+public class MailboxWatcherTest {
+
+    private FakeMailServer server;
+
+    @Before
+    public void start(){
+        server = new FakeMailServer().start();
+    }
+
+    @After
+    public void stop(){
+        MailboxSession.closeAll();
+        server.close();
+    }
+
+    private MailboxWatcher watcher(String email){
+        return MailboxWatcher.of(server.host(), String.valueOf(server.imapPort()), email, "any", "false");
+    }
+
+    @Test
+    public void returnsTheNewestExistingMatch() throws Exception {
+        String email = "existing@pickleib.test";
+        server.deliver("app@pickleib.test", email, "Code 1", "<p>verify</p>");
+        server.deliver("app@pickleib.test", email, "Code 2", "<p>verify</p>");
+        Message message = watcher(email).await(EmailField.CONTENT, "verify", Duration.ofSeconds(10)).get(15, TimeUnit.SECONDS);
+        Assert.assertEquals("Code 2", message.getSubject());
+    }
+
+    @Test
+    public void completesWithIncomingMessagesThatOutliveTheSession() throws Exception {
+        String email = "incoming@pickleib.test";
+        CompletableFuture<Message> future = watcher(email).await(EmailField.SUBJECT, "Welcome", Duration.ofSeconds(10));
+        server.deliver("app@pickleib.test", email, "Other", "<p>other</p>");
+        server.deliver("app@pickleib.test", email, "Welcome aboard", "<p>token-1</p>");
+        Message message = future.get(15, TimeUnit.SECONDS);
+        MailboxSession.closeAll();
+        Assert.assertEquals("Welcome aboard", message.getSubject());
+        Assert.assertTrue(MailboxSession.content(message).contains("token-1"));
+    }
+
+    @Test
+    public void failsWhenNoMessageMatchesInTime(){
+        String email = "timeout@pickleib.test";
+        CompletableFuture<Message> future = watcher(email).await(EmailField.SUBJECT, "Never", Duration.ofMillis(500));
+        CompletionException exception = Assert.assertThrows(CompletionException.class, future::join);
+        Assert.assertTrue(exception.getCause() instanceof TimeoutException);
+    }
+}
@@ -0,0 +1,242 @@
+package pickleib.utilities.email.fake;
+
+import pickleib.exceptions.PickleibException;
+import utils.Printer;
+
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * In-process mail server with SMTP delivery and an IMAP subset (including IDLE), bound to the loopback address
+ * <p>
+ * Targets the persistent mailbox session (email-acquisition-mode=session), e.g.
+ * <pre>
+ * FakeMailServer server = new FakeMailServer().deliveryDelay(Duration.ofSeconds(2)).start();
+ * EmailInbox inbox = new EmailInbox(server.host(), String.valueOf(server.imapPort()), "user@test.com", "any", "false");
+ * server.deliver("app@test.com", "user@test.com", "Verify your email", "&lt;a href='...'&gt;Verify&lt;/a&gt;");
+ * </pre>
+ * Any password is accepted, mailboxes are created on first use.
+ */
+public class FakeMailServer implements AutoCloseable {
+
+    private static final Printer log = new Printer(FakeMailServer.class);
+
+    private final Map<String, FakeMailbox> mailboxes = new ConcurrentHashMap<>();
+    private final ExecutorService connections = Executors.newCachedThreadPool(daemon("pickleib-fake-mail"));
+    private final ScheduledExecutorService deliveries = Executors.newSingleThreadScheduledExecutor(daemon("pickleib-fake-mail-delivery"));
+    private final Session session = Session.getInstance(new Properties());
+    private volatile Duration deliveryDelay = Duration.ZERO;
+    private volatile boolean idleSupported = true;
+    private ServerSocket smtpSocket;
+    private ServerSocket imapSocket;
+
+    /**
+     * Delays the delivery of every message that is sent afterwards
+     *
+     * @param deliveryDelay time between accepting a message and storing it in the mailbox
+     * @return returns the server
+     */
+    public FakeMailServer deliveryDelay(Duration deliveryDelay){
+        this.deliveryDelay = deliveryDelay;
+        return this;
+    }
+
+    /**
+     * Enables or disables the IDLE capability (clients poll without it)
+     *
+     * @param idleSupported IDLE is advertised if true
+     * @return returns the server
+     */
+    public FakeMailServer idle(boolean idleSupported){
+        this.idleSupported = idleSupported;
+        return this;
+    }
+
+    /**
+     * Starts the SMTP & IMAP listeners on free loopback ports
+     *
+     * @return returns the server
+     */
+    public FakeMailServer start(){
+        try {
+            smtpSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            imapSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        }
+        catch (IOException exception) {throw new PickleibException("Could not start the fake mail server: " + exception.getMessage());}
+        accept(smtpSocket, this::smtp);
+        accept(imapSocket, socket -> new ImapConnection(this, socket).run());
+        log.new Info("Fake mail server is listening on SMTP " + smtpPort() + " & IMAP " + imapPort());
+        return this;
+    }
+
+    public String host(){return InetAddress.getLoopbackAddress().getHostAddress();}
+
+    public int smtpPort(){return smtpSocket.getLocalPort();}
+
+    public int imapPort(){return imapSocket.getLocalPort();}
+
+    boolean isIdleSupported(){return idleSupported;}
+
+    Session session(){return session;}
+
+    /**
+     * Returns the mailbox of an address, the mailbox is created if it does not exist
+     *
+     * @param address email address
+     * @return returns the mailbox
+     */
+    public FakeMailbox mailbox(String address){
+        return mailboxes.computeIfAbsent(address.toLowerCase(), FakeMailbox::new);
+    }
+
+    /**
+     * Delivers an html message (after the delivery delay)
+     *
+     * @param from sender address
+     * @param to recipient address
+     * @param subject message subject
+     * @param html message content
+     */
+    public void deliver(String from, String to, String subject, String html){
+        try {
+            MimeMessage message = new MimeMessage(session);
+            message.setFrom(from);
+            message.setRecipients(MimeMessage.RecipientType.TO, to);
+            message.setSubject(subject, "UTF-8");
+            message.setSentDate(new java.util.Date());
+            message.setText(html, "UTF-8", "html");
+            message.saveChanges();
+            ByteArrayOutputStream raw = new ByteArrayOutputStream();
+            message.writeTo(raw);
+            deliver(List.of(to), raw.toByteArray());
+        }
+        catch (MessagingException | IOException exception) {
+            throw new PickleibException("Could not build the message: " + exception.getMessage());
+        }
+    }
+
+    /**
+     * Delivers a raw message to given recipients (after the delivery delay)
+     *
+     * @param recipients recipient addresses
+     * @param raw raw RFC 822 message
+     */
+    public void deliver(List<String> recipients, byte[] raw){
+        Runnable delivery = () -> {for (String recipient : recipients) mailbox(recipient).add(raw);};
+        if (deliveryDelay.isZero()) delivery.run();
+        else deliveries.schedule(delivery, deliveryDelay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Handles an SMTP connection, supports HELO/EHLO, MAIL, RCPT, DATA, RSET, NOOP & QUIT
+     *
+     * @param socket client socket
+     */
+    private void smtp(Socket socket){
+        try (socket;
+             BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+             Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.ISO_8859_1)) {
+            Consumer<String> reply = line -> {
+                try {
+                    writer.write(line + "\r\n");
+                    writer.flush();
+                }
+                catch (IOException exception) {throw new UncheckedIOException(exception);}
+            };
+            reply.accept("220 localhost Pickleib fake SMTP");
+            List<String> recipients = new ArrayList<>();
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                String command = line.length() < 4 ? line.toUpperCase() : line.substring(0, 4).toUpperCase();
+                switch (command) {
+                    case "HELO", "EHLO" -> reply.accept("250 localhost");
+                    case "MAIL" -> {
+                        recipients.clear();
+                        reply.accept("250 OK");
+                    }
+                    case "RCPT" -> {
+                        int start = line.indexOf('<');
+                        int end = line.lastIndexOf('>');
+                        if (start < 0 || end < start) {
+                            reply.accept("501 Syntax: RCPT TO:<address>");
+                            continue;
+                        }
+                        recipients.add(line.substring(start + 1, end));
+                        reply.accept("250 OK");
+                    }
+                    case "DATA" -> {
+                        reply.accept("354 End data with <CR><LF>.<CR><LF>");
+                        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+                        for (String data = reader.readLine(); data != null && !data.equals("."); data = reader.readLine()) {
+                            if (data.startsWith(".")) data = data.substring(1);
+                            raw.write((data + "\r\n").getBytes(StandardCharsets.ISO_8859_1));
+                        }
+                        deliver(List.copyOf(recipients), raw.toByteArray());
+                        reply.accept("250 OK queued");
+                    }
+                    case "RSET" -> {
+                        recipients.clear();
+                        reply.accept("250 OK");
+                    }
+                    case "NOOP" -> reply.accept("250 OK");
+                    case "QUIT" -> {
+                        reply.accept("221 Bye");
+                        return;
+                    }
+                    default -> reply.accept("502 Command not implemented");
+                }
+            }
+        }
+        catch (IOException | UncheckedIOException exception) {
+            log.new Warning("SMTP connection failed: " + exception.getMessage());
+        }
+    }
+
+    private void accept(ServerSocket serverSocket, Consumer<Socket> handler){
+        connections.execute(() -> {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    connections.execute(() -> handler.accept(socket));
+                }
+                catch (IOException exception) {
+                    if (!serverSocket.isClosed()) log.new Warning("Could not accept connection: " + exception.getMessage());
+                }
+            }
+        });
+    }
+
+    private static ThreadFactory daemon(String name){
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Stops the listeners, open connections are dropped
+     */
+    @Override
+    public void close(){
+        try {
+            if (smtpSocket != null) smtpSocket.close();
+            if (imapSocket != null) imapSocket.close();
+        }
+        catch (IOException exception) {log.new Warning("Could not close the fake mail server: " + exception.getMessage());}
+        connections.shutdownNow();
+        deliveries.shutdownNow();
+    }
+}
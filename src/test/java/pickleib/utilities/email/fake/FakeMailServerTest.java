@@ -0,0 +1,159 @@
+package pickleib.utilities.email.fake;
+
+import com.sun.mail.iap.Response;
+import com.sun.mail.imap.IMAPFolder;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.mail.*;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+import java.io.*;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+public class FakeMailServerTest {
+
+    private static final String user = "user@pickleib.test";
+
+    private FakeMailServer server;
+    private final List<Store> stores = new ArrayList<>();
+
+    @Before
+    public void start(){
+        server = new FakeMailServer().start();
+    }
+
+    @After
+    public void stop() throws MessagingException {
+        for (Store store : stores) store.close();
+        server.close();
+    }
+
+    private IMAPFolder inbox(String password, int mode) throws MessagingException {
+        Store store = Session.getInstance(new Properties()).getStore("imap");
+        store.connect(server.host(), server.imapPort(), user, password);
+        stores.add(store);
+        IMAPFolder folder = (IMAPFolder) store.getFolder("INBOX");
+        folder.open(mode);
+        return folder;
+    }
+
+    private static Response[] command(IMAPFolder folder, String command) throws MessagingException {
+        return (Response[]) folder.doCommand(protocol -> protocol.command(command, null));
+    }
+
+    @Test
+    public void deliversMessagesSentThroughSmtp() throws Exception {
+        Properties properties = new Properties();
+        properties.setProperty("mail.smtp.host", server.host());
+        properties.setProperty("mail.smtp.port", String.valueOf(server.smtpPort()));
+        MimeMessage message = new MimeMessage(Session.getInstance(properties));
+        message.setFrom(new InternetAddress("app@pickleib.test"));
+        message.setRecipients(Message.RecipientType.TO, user);
+        message.setSubject("Verify your email");
+        message.setText("Click to verify");
+        Transport.send(message);
+
+        IMAPFolder inbox = inbox("any", Folder.READ_ONLY);
+        Assert.assertEquals(1, inbox.getMessageCount());
+        Assert.assertEquals("Verify your email", inbox.getMessage(1).getSubject());
+    }
+
+    @Test
+    public void rejectsRecipientsWithoutAngleBrackets() throws Exception {
+        try (Socket socket = new Socket(server.host(), server.smtpPort())) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+            Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.ISO_8859_1);
+            reader.readLine();
+            for (String line : List.of("HELO pickleib", "MAIL FROM:<app@pickleib.test>")) {
+                writer.write(line + "\r\n");
+                writer.flush();
+                Assert.assertTrue(reader.readLine().startsWith("250"));
+            }
+            writer.write("RCPT TO:" + user + "\r\n");
+            writer.flush();
+            Assert.assertTrue(reader.readLine().startsWith("501"));
+            writer.write("RCPT TO:<" + user + ">\r\n");
+            writer.flush();
+            Assert.assertTrue("The connection stays usable", reader.readLine().startsWith("250"));
+        }
+    }
+
+    @Test
+    public void logsInWithLiteralPasswords() throws Exception {
+        server.deliver("app@pickleib.test", user, "Welcome", "<p>Hello</p>");
+        // Non-ascii passwords are sent as literals
+        IMAPFolder inbox = inbox("pässwörd", Folder.READ_ONLY);
+        Assert.assertEquals(1, inbox.getMessageCount());
+    }
+
+    @Test
+    public void wakesIdlingClients() throws Exception {
+        IMAPFolder inbox = inbox("any", Folder.READ_ONLY);
+        server.deliveryDelay(Duration.ofMillis(300)).deliver("app@pickleib.test", user, "Arrived", "<p>Hello</p>");
+        long initialTime = System.currentTimeMillis();
+        inbox.idle(true);
+        Assert.assertTrue(System.currentTimeMillis() - initialTime < 5000);
+        Assert.assertEquals(1, inbox.getMessageCount());
+        Assert.assertEquals("Arrived", inbox.getMessage(1).getSubject());
+    }
+
+    @Test
+    public void fetchesMessagesByUid() throws Exception {
+        server.deliver("app@pickleib.test", user, "First", "<p>1</p>");
+        server.deliver("app@pickleib.test", user, "Second", "<p>2</p>");
+        IMAPFolder inbox = inbox("any", Folder.READ_ONLY);
+        long uid = inbox.getUID(inbox.getMessage(2));
+        Message[] messages = inbox.getMessagesByUID(uid, UIDFolder.LASTUID);
+        Assert.assertEquals(1, messages.length);
+        Assert.assertEquals("Second", messages[0].getSubject());
+        Assert.assertEquals("First", inbox.getMessageByUID(inbox.getUID(inbox.getMessage(1))).getSubject());
+    }
+
+    @Test
+    public void expungesDeletedMessages() throws Exception {
+        server.deliver("app@pickleib.test", user, "First", "<p>1</p>");
+        server.deliver("app@pickleib.test", user, "Second", "<p>2</p>");
+        IMAPFolder inbox = inbox("any", Folder.READ_WRITE);
+        inbox.getMessage(1).setFlag(Flags.Flag.DELETED, true);
+        Assert.assertTrue(inbox.getMessage(1).isSet(Flags.Flag.DELETED));
+        Assert.assertEquals(1, inbox.expunge().length);
+        Assert.assertEquals(1, inbox.getMessageCount());
+        Assert.assertEquals("Second", inbox.getMessage(1).getSubject());
+        Assert.assertEquals(1, inbox("any", Folder.READ_ONLY).getMessageCount());
+    }
+
+    @Test
+    public void reportsExpungesOnlyWhenPermitted() throws Exception {
+        server.deliver("app@pickleib.test", user, "First", "<p>1</p>");
+        server.deliver("app@pickleib.test", user, "Second", "<p>2</p>");
+        IMAPFolder reader = inbox("any", Folder.READ_ONLY);
+        IMAPFolder writer = inbox("any", Folder.READ_WRITE);
+        writer.setFlags(new int[]{1}, new Flags(Flags.Flag.DELETED), true);
+        writer.expunge();
+
+        for (String command : List.of("FETCH 1:2 (FLAGS)", "SEARCH ALL"))
+            for (Response response : command(reader, command))
+                Assert.assertFalse(command + " reports an expunge", response.toString().endsWith("EXPUNGE"));
+        Response[] responses = command(reader, "NOOP");
+        Assert.assertTrue(responses[0].toString().equals("* 1 EXPUNGE"));
+    }
+
+    @Test
+    public void refusesUnsupportedSearchCriteria() throws Exception {
+        server.deliver("app@pickleib.test", user, "First", "<p>1</p>");
+        IMAPFolder inbox = inbox("any", Folder.READ_ONLY);
+        Response[] responses = command(inbox, "SEARCH SUBJECT First");
+        Assert.assertTrue(responses[responses.length - 1].isNO());
+        responses = command(inbox, "SEARCH ALL");
+        Assert.assertEquals("* SEARCH 1", responses[0].toString());
+        Assert.assertTrue(responses[responses.length - 1].isOK());
+    }
+}
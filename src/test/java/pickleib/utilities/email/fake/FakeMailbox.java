@@ -0,0 +1,78 @@
+package pickleib.utilities.email.fake;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-memory mailbox of a fake mail server, messages get ascending uids as they are delivered
+ */
+public class FakeMailbox {
+
+    /**
+     * Stored message
+     *
+     * @param uid message uid
+     * @param raw raw RFC 822 message
+     * @param internalDate delivery time
+     */
+    public record StoredMessage(long uid, byte[] raw, Date internalDate) {}
+
+    private final String address;
+    private final long uidValidity = System.currentTimeMillis() / 1000;
+    private final List<StoredMessage> messages = new ArrayList<>();
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+    private long nextUid = 1;
+
+    FakeMailbox(String address){this.address = address;}
+
+    public String address(){return address;}
+
+    public long uidValidity(){return uidValidity;}
+
+    /**
+     * @return returns the messages of the mailbox, in delivery order
+     */
+    public synchronized List<StoredMessage> messages(){return List.copyOf(messages);}
+
+    /**
+     * Adds a raw message to the mailbox and notifies the idling sessions
+     *
+     * @param raw raw RFC 822 message
+     * @return returns the stored message
+     */
+    public StoredMessage add(byte[] raw){
+        StoredMessage message;
+        synchronized (this) {
+            message = new StoredMessage(nextUid++, raw, new Date());
+            messages.add(message);
+        }
+        listeners.forEach(Runnable::run);
+        return message;
+    }
+
+    /**
+     * Removes every message of the mailbox
+     */
+    public void clear(){
+        synchronized (this) {messages.clear();}
+        listeners.forEach(Runnable::run);
+    }
+
+    /**
+     * Removes messages by uid and notifies the idling sessions
+     *
+     * @param uids uids of the removed messages
+     */
+    public void remove(Collection<Long> uids){
+        boolean removed;
+        synchronized (this) {removed = messages.removeIf(message -> uids.contains(message.uid()));}
+        if (removed) listeners.forEach(Runnable::run);
+    }
+
+    void addListener(Runnable listener){listeners.add(listener);}
+
+    void removeListener(Runnable listener){listeners.remove(listener);}
+}
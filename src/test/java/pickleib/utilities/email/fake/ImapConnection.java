@@ -0,0 +1,692 @@
+package pickleib.utilities.email.fake;
+
+import utils.Printer;
+
+import javax.mail.BodyPart;
+import javax.mail.MessagingException;
+import javax.mail.Multipart;
+import javax.mail.Part;
+import javax.mail.internet.*;
+import java.io.*;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.*;
+
+/**
+ * IMAP connection of a fake mail server
+ * <p>
+ * Implements the commands a JavaMail client issues to read an inbox: CAPABILITY, LOGIN, SELECT/EXAMINE, LIST, STATUS,
+ * NOOP, IDLE, FETCH/UID FETCH (envelopes, body structures & body sections), SEARCH ALL, STORE/UID STORE,
+ * EXPUNGE/UID EXPUNGE, CLOSE and LOGOUT. Other SEARCH criteria are refused with NO.
+ * Only the \Deleted flag is stored (per connection), flagged messages are removed from the mailbox by EXPUNGE or CLOSE.
+ * Expunged messages are reported during NOOP, CHECK, IDLE, EXPUNGE & UID commands only (RFC 3501 7.4.1),
+ * FETCH, STORE and SEARCH report new messages but keep the sequence numbers of the client stable.
+ */
+final class ImapConnection implements Runnable {
+
+    private static final Printer log = new Printer(ImapConnection.class);
+
+    private final FakeMailServer server;
+    private final Socket socket;
+    private final InputStream input;
+    private final OutputStream output;
+    private final Runnable mailboxListener = this::onMailboxChange;
+    private final Map<Long, MimeMessage> parsedMessages = new HashMap<>();
+    private final List<FakeMailbox.StoredMessage> view = new ArrayList<>();
+
+    /**
+     * Uids of the messages flagged as \Deleted in the selected mailbox
+     */
+    private final Set<Long> deleted = new HashSet<>();
+    private FakeMailbox mailbox;
+    private FakeMailbox selected;
+    private boolean readOnly;
+    private volatile boolean idling;
+
+    ImapConnection(FakeMailServer server, Socket socket){
+        this.server = server;
+        this.socket = socket;
+        try {
+            socket.setTcpNoDelay(true);
+            this.input = new BufferedInputStream(socket.getInputStream());
+            this.output = new BufferedOutputStream(socket.getOutputStream());
+        }
+        catch (IOException exception) {throw new UncheckedIOException(exception);}
+    }
+
+    @Override
+    public void run(){
+        try (socket) {
+            write("* OK Pickleib fake IMAP ready");
+            for (String line = readCommand(); line != null; line = readCommand()) {
+                List<String> tokens = tokenize(line);
+                if (tokens.size() < 2) {
+                    write("* BAD Invalid command");
+                    continue;
+                }
+                String tag = tokens.get(0);
+                String command = tokens.get(1).toUpperCase();
+                boolean uid = command.equals("UID");
+                if (uid && tokens.size() > 2) command = tokens.get(2).toUpperCase();
+                String arguments = argumentsOf(line, uid ? 3 : 2);
+                if (!handle(tag, command, uid, arguments, tokens.subList(uid ? 3 : 2, tokens.size()))) return;
+            }
+        }
+        catch (IOException exception) {
+            if (!socket.isClosed()) log.new Warning("IMAP connection failed: " + exception.getMessage());
+        }
+        finally {unselect();}
+    }
+
+    /**
+     * Handles a command
+     *
+     * @return returns false if the connection should be closed
+     */
+    private boolean handle(String tag, String command, boolean uid, String arguments, List<String> tokens) throws IOException {
+        switch (command) {
+            case "CAPABILITY" -> {
+                write("* CAPABILITY IMAP4rev1" + (server.isIdleSupported() ? " IDLE" : ""));
+                write(tag + " OK CAPABILITY completed");
+            }
+            case "NOOP", "CHECK" -> {
+                sync(true);
+                write(tag + " OK " + command + " completed");
+            }
+            case "LOGIN" -> {
+                mailbox = server.mailbox(tokens.get(0));
+                write(tag + " OK LOGIN completed");
+            }
+            case "LOGOUT" -> {
+                write("* BYE Logging out");
+                write(tag + " OK LOGOUT completed");
+                return false;
+            }
+            case "SELECT", "EXAMINE" -> {
+                if (!tokens.get(0).equalsIgnoreCase("INBOX") || mailbox == null) {
+                    write(tag + " NO No such mailbox");
+                    return true;
+                }
+                unselect();
+                selected = mailbox;
+                readOnly = command.equals("EXAMINE");
+                synchronized (this) {
+                    view.clear();
+                    view.addAll(selected.messages());
+                }
+                selected.addListener(mailboxListener);
+                write("* FLAGS (\\Seen \\Answered \\Flagged \\Deleted \\Draft)");
+                write("* " + view.size() + " EXISTS");
+                write("* 0 RECENT");
+                write("* OK [UIDVALIDITY " + selected.uidValidity() + "] UIDs valid");
+                write("* OK [UIDNEXT " + nextUid() + "] Predicted next UID");
+                write("* OK [PERMANENTFLAGS (\\Deleted)] Limited");
+                write(tag + " OK [" + (command.equals("SELECT") ? "READ-WRITE" : "READ-ONLY") + "] " + command + " completed");
+            }
+            case "LIST", "LSUB" -> {
+                write("* " + command + " (\\HasNoChildren) \"/\" INBOX");
+                write(tag + " OK " + command + " completed");
+            }
+            case "STATUS" -> {
+                FakeMailbox target = mailbox;
+                List<FakeMailbox.StoredMessage> messages = target == null ? List.of() : target.messages();
+                long uidNext = messages.isEmpty() ? 1 : messages.get(messages.size() - 1).uid() + 1;
+                write("* STATUS INBOX (MESSAGES " + messages.size() + " RECENT 0 UIDNEXT " + uidNext +
+                        " UIDVALIDITY " + (target == null ? 0 : target.uidValidity()) + " UNSEEN 0)");
+                write(tag + " OK STATUS completed");
+            }
+            case "CLOSE", "UNSELECT" -> {
+                // CLOSE expunges silently, the client is not notified of the removed messages
+                FakeMailbox closing = selected;
+                Set<Long> expunged;
+                synchronized (this) {expunged = command.equals("CLOSE") && !readOnly ? Set.copyOf(deleted) : Set.of();}
+                unselect();
+                if (closing != null && !expunged.isEmpty()) closing.remove(expunged);
+                write(tag + " OK " + command + " completed");
+            }
+            case "IDLE" -> {
+                if (!server.isIdleSupported()) {
+                    write(tag + " BAD IDLE is not supported");
+                    return true;
+                }
+                write("+ idling");
+                idling = true;
+                sync(true);
+                String done = readLine();
+                idling = false;
+                if (done == null) return false;
+                write(tag + " OK IDLE terminated");
+            }
+            case "FETCH" -> {
+                sync(uid);
+                fetch(uid, arguments);
+                write(tag + " OK FETCH completed");
+            }
+            case "SEARCH" -> {
+                if (tokens.isEmpty()) {
+                    write(tag + " BAD Missing SEARCH criteria");
+                    return true;
+                }
+                if (tokens.size() > 1 || !tokens.get(0).equalsIgnoreCase("ALL")) {
+                    write(tag + " NO Unsupported SEARCH criteria: " + arguments);
+                    return true;
+                }
+                sync(uid);
+                StringBuilder result = new StringBuilder("* SEARCH");
+                synchronized (this) {
+                    for (int index = 0; index < view.size(); index++)
+                        result.append(' ').append(uid ? view.get(index).uid() : index + 1);
+                }
+                write(result.toString());
+                write(tag + " OK SEARCH completed");
+            }
+            case "STORE" -> {
+                if (selected == null || readOnly || tokens.size() < 3) {
+                    write(tag + " NO STORE is not permitted");
+                    return true;
+                }
+                sync(uid);
+                store(uid, tokens.get(0), tokens.get(1).toUpperCase(), arguments.toUpperCase().contains("\\DELETED"));
+                write(tag + " OK STORE completed");
+            }
+            case "EXPUNGE" -> {
+                if (selected == null || readOnly) {
+                    write(tag + " NO EXPUNGE is not permitted");
+                    return true;
+                }
+                expunge(uid ? tokens.get(0) : null);
+                write(tag + " OK EXPUNGE completed");
+            }
+            default -> write(tag + " BAD Unsupported command " + command);
+        }
+        return true;
+    }
+
+    /**
+     * Reports the mailbox changes to an idling client
+     */
+    private void onMailboxChange(){
+        if (!idling) return;
+        try {sync(true);}
+        catch (IOException exception) {log.new Warning("Could not notify the idling client: " + exception.getMessage());}
+    }
+
+    /**
+     * Reconciles the client's view with the mailbox, reporting new (and optionally expunged) messages
+     * Expunged messages that are not reported stay in the view, so the sequence numbers of the client remain valid
+     *
+     * @param reportExpunges expunged messages are removed from the view & reported if true
+     */
+    private synchronized void sync(boolean reportExpunges) throws IOException {
+        if (selected == null) return;
+        List<FakeMailbox.StoredMessage> messages = selected.messages();
+        if (reportExpunges) {
+            Set<Long> uids = new HashSet<>();
+            for (FakeMailbox.StoredMessage message : messages) uids.add(message.uid());
+            for (int index = view.size() - 1; index >= 0; index--)
+                if (!uids.contains(view.get(index).uid())) {
+                    view.remove(index);
+                    write("* " + (index + 1) + " EXPUNGE");
+                }
+            deleted.retainAll(uids);
+        }
+        long lastUid = view.isEmpty() ? 0 : view.get(view.size() - 1).uid();
+        int size = view.size();
+        for (FakeMailbox.StoredMessage message : messages) if (message.uid() > lastUid) view.add(message);
+        if (view.size() != size) write("* " + view.size() + " EXISTS");
+    }
+
+    private synchronized long nextUid(){
+        List<FakeMailbox.StoredMessage> messages = selected.messages();
+        return messages.isEmpty() ? 1 : messages.get(messages.size() - 1).uid() + 1;
+    }
+
+    private void unselect(){
+        if (selected != null) selected.removeListener(mailboxListener);
+        selected = null;
+        synchronized (this) {
+            view.clear();
+            deleted.clear();
+        }
+    }
+
+    /**
+     * Responds to a STORE command, only the \Deleted flag is stored
+     *
+     * @param uid the message set consists of uids if true
+     * @param set message set
+     * @param operation flag operation, e.g. +FLAGS, -FLAGS.SILENT
+     * @param flagged the flag list contains \Deleted if true
+     */
+    private synchronized void store(boolean uid, String set, String operation, boolean flagged) throws IOException {
+        boolean replace = !operation.startsWith("+") && !operation.startsWith("-");
+        for (int index : resolve(set, uid)) {
+            long messageUid = view.get(index).uid();
+            if (flagged && !operation.startsWith("-")) deleted.add(messageUid);
+            else if (flagged || replace) deleted.remove(messageUid);
+            if (!operation.endsWith(".SILENT"))
+                write("* " + (index + 1) + " FETCH (" + (uid ? "UID " + messageUid + " " : "") + flags(messageUid) + ")");
+        }
+    }
+
+    /**
+     * Removes the messages flagged as \Deleted from the mailbox & reports them as expunged
+     *
+     * @param set uids to expunge (UID EXPUNGE), every flagged message is expunged if null
+     */
+    private void expunge(String set) throws IOException {
+        Set<Long> expunged;
+        synchronized (this) {
+            expunged = new HashSet<>(deleted);
+            if (set != null) {
+                Set<Long> requested = new HashSet<>();
+                for (int index : resolve(set, true)) requested.add(view.get(index).uid());
+                expunged.retainAll(requested);
+            }
+        }
+        // The mailbox notifies its listeners, it is updated outside the lock of this connection
+        if (!expunged.isEmpty()) selected.remove(expunged);
+        sync(true);
+    }
+
+    private String flags(long uid){return deleted.contains(uid) ? "FLAGS (\\Deleted)" : "FLAGS ()";}
+
+    /**
+     * Responds to a FETCH command
+     *
+     * @param uid the message set consists of uids if true
+     * @param arguments message set & fetch items
+     */
+    private synchronized void fetch(boolean uid, String arguments) throws IOException {
+        int split = arguments.indexOf(' ');
+        String set = arguments.substring(0, split);
+        List<String> items = fetchItems(arguments.substring(split + 1).trim());
+        if (uid && !items.contains("UID")) items.add(0, "UID");
+
+        for (int index : resolve(set, uid)) {
+            FakeMailbox.StoredMessage message = view.get(index);
+            ByteArrayOutputStream response = new ByteArrayOutputStream();
+            append(response, "* " + (index + 1) + " FETCH (");
+            for (int item = 0; item < items.size(); item++) {
+                if (item > 0) append(response, " ");
+                fetchItem(response, message, items.get(item));
+            }
+            append(response, ")\r\n");
+            output.write(response.toByteArray());
+        }
+        output.flush();
+    }
+
+    private void fetchItem(ByteArrayOutputStream response, FakeMailbox.StoredMessage message, String item) throws IOException {
+        String name = item.toUpperCase();
+        try {
+            switch (name) {
+                case "UID" -> append(response, "UID " + message.uid());
+                case "FLAGS" -> append(response, flags(message.uid()));
+                case "INTERNALDATE" -> append(response, "INTERNALDATE \"" +
+                        new SimpleDateFormat("dd-MMM-yyyy HH:mm:ss Z", Locale.US).format(message.internalDate()) + "\"");
+                case "RFC822.SIZE" -> append(response, "RFC822.SIZE " + message.raw().length);
+                case "ENVELOPE" -> {
+                    append(response, "ENVELOPE ");
+                    envelope(response, parse(message));
+                }
+                case "BODYSTRUCTURE", "BODY" -> {
+                    append(response, name + " ");
+                    bodyStructure(response, parse(message));
+                }
+                case "RFC822" -> literalItem(response, "RFC822", message.raw());
+                case "RFC822.HEADER" -> literalItem(response, "RFC822.HEADER", section(message, "HEADER"));
+                case "RFC822.TEXT" -> literalItem(response, "RFC822.TEXT", section(message, "TEXT"));
+                default -> {
+                    if (!name.startsWith("BODY[") && !name.startsWith("BODY.PEEK[")) {
+                        append(response, "NIL");
+                        return;
+                    }
+                    String sectionName = item.substring(item.indexOf('[') + 1, item.indexOf(']'));
+                    byte[] content = section(message, sectionName);
+                    String partial = item.substring(item.indexOf(']') + 1);
+                    String label = "BODY[" + sectionName + "]";
+                    if (partial.startsWith("<")) {
+                        String[] range = partial.substring(1, partial.length() - 1).split("\\.");
+                        int origin = Math.min(Integer.parseInt(range[0]), content.length);
+                        int count = Math.min(Integer.parseInt(range[1]), content.length - origin);
+                        content = Arrays.copyOfRange(content, origin, origin + count);
+                        label += "<" + origin + ">";
+                    }
+                    literalItem(response, label, content);
+                }
+            }
+        }
+        catch (MessagingException exception) {throw new IOException(exception);}
+    }
+
+    /**
+     * Returns the bytes of a body section, e.g. "", "HEADER", "TEXT", "HEADER.FIELDS (SUBJECT)", "1", "1.2", "2.MIME"
+     */
+    private byte[] section(FakeMailbox.StoredMessage message, String section) throws MessagingException, IOException {
+        byte[] raw = message.raw();
+        int headerEnd = headerEnd(raw);
+        String upperSection = section.toUpperCase();
+        if (section.isEmpty()) return raw;
+        if (upperSection.equals("HEADER")) return Arrays.copyOfRange(raw, 0, headerEnd);
+        if (upperSection.equals("TEXT")) return Arrays.copyOfRange(raw, headerEnd, raw.length);
+        if (upperSection.startsWith("HEADER.FIELDS")) {
+            boolean exclude = upperSection.startsWith("HEADER.FIELDS.NOT");
+            Set<String> fields = new HashSet<>(Arrays.asList(
+                    upperSection.substring(upperSection.indexOf('(') + 1, upperSection.indexOf(')')).trim().split("\\s+")
+            ));
+            StringBuilder headers = new StringBuilder();
+            Enumeration<String> lines = parse(message).getAllHeaderLines();
+            while (lines.hasMoreElements()) {
+                String line = lines.nextElement();
+                String field = line.substring(0, Math.max(0, line.indexOf(':'))).trim().toUpperCase();
+                if (fields.contains(field) != exclude) headers.append(line).append("\r\n");
+            }
+            return headers.append("\r\n").toString().getBytes(StandardCharsets.ISO_8859_1);
+        }
+
+        Part part = parse(message);
+        String[] path = section.split("\\.");
+        int index = 0;
+        for (; index < path.length && path[index].chars().allMatch(Character::isDigit); index++) {
+            int number = Integer.parseInt(path[index]);
+            if (part.getContent() instanceof Multipart multipart) part = multipart.getBodyPart(number - 1);
+            else if (number != 1) return new byte[0];
+        }
+        String suffix = index < path.length ? path[index].toUpperCase() : "";
+        if (suffix.equals("MIME") || suffix.equals("HEADER")) {
+            StringBuilder headers = new StringBuilder();
+            Enumeration<String> lines = ((MimePart) part).getAllHeaderLines();
+            while (lines.hasMoreElements()) headers.append(lines.nextElement()).append("\r\n");
+            return headers.append("\r\n").toString().getBytes(StandardCharsets.ISO_8859_1);
+        }
+        return rawContent(part);
+    }
+
+    private static byte[] rawContent(Part part) throws MessagingException, IOException {
+        InputStream stream = part instanceof MimeBodyPart bodyPart ? bodyPart.getRawInputStream() : ((MimeMessage) part).getRawInputStream();
+        try (stream) {return stream.readAllBytes();}
+    }
+
+    private static int headerEnd(byte[] raw){
+        for (int index = 0; index + 1 < raw.length; index++) {
+            if (raw[index] == '\n' && raw[index + 1] == '\n') return index + 2;
+            if (index + 3 < raw.length && raw[index] == '\r' && raw[index + 1] == '\n' && raw[index + 2] == '\r' && raw[index + 3] == '\n')
+                return index + 4;
+        }
+        return raw.length;
+    }
+
+    private MimeMessage parse(FakeMailbox.StoredMessage message) throws MessagingException {
+        MimeMessage parsed = parsedMessages.get(message.uid());
+        if (parsed == null) {
+            parsed = new MimeMessage(server.session(), new ByteArrayInputStream(message.raw()));
+            parsedMessages.put(message.uid(), parsed);
+        }
+        return parsed;
+    }
+
+    private void envelope(ByteArrayOutputStream response, MimeMessage message) throws MessagingException, IOException {
+        String from = message.getHeader("From", ",");
+        append(response, "(");
+        string(response, message.getHeader("Date", null));
+        append(response, " ");
+        string(response, message.getHeader("Subject", null));
+        for (String addresses : new String[]{
+                from,
+                Objects.requireNonNullElse(message.getHeader("Sender", ","), from),
+                Objects.requireNonNullElse(message.getHeader("Reply-To", ","), from),
+                message.getHeader("To", ","),
+                message.getHeader("Cc", ","),
+                message.getHeader("Bcc", ",")
+        }) {
+            append(response, " ");
+            addresses(response, addresses);
+        }
+        append(response, " ");
+        string(response, message.getHeader("In-Reply-To", null));
+        append(response, " ");
+        string(response, message.getHeader("Message-ID", null));
+        append(response, ")");
+    }
+
+    private void addresses(ByteArrayOutputStream response, String header) throws IOException {
+        InternetAddress[] addresses;
+        try {addresses = header == null ? new InternetAddress[0] : InternetAddress.parseHeader(header, false);}
+        catch (AddressException exception) {addresses = new InternetAddress[0];}
+        if (addresses.length == 0) {
+            append(response, "NIL");
+            return;
+        }
+        append(response, "(");
+        for (InternetAddress address : addresses) {
+            String mailbox = address.getAddress();
+            int at = mailbox.indexOf('@');
+            append(response, "(");
+            string(response, address.getPersonal() == null ? null : MimeUtility.encodeWord(address.getPersonal(), "UTF-8", null));
+            append(response, " NIL ");
+            string(response, at < 0 ? mailbox : mailbox.substring(0, at));
+            append(response, " ");
+            string(response, at < 0 ? null : mailbox.substring(at + 1));
+            append(response, ")");
+        }
+        append(response, ")");
+    }
+
+    private void bodyStructure(ByteArrayOutputStream response, Part part) throws MessagingException, IOException {
+        ContentType contentType = new ContentType(part.getContentType());
+        append(response, "(");
+        if (part.getContent() instanceof Multipart multipart) {
+            for (int index = 0; index < multipart.getCount(); index++) {
+                BodyPart bodyPart = multipart.getBodyPart(index);
+                bodyStructure(response, bodyPart);
+            }
+            append(response, " ");
+            string(response, contentType.getSubType().toUpperCase());
+            append(response, " ");
+            parameters(response, contentType.getParameterList());
+            append(response, " NIL NIL)");
+            return;
+        }
+        boolean text = contentType.getPrimaryType().equalsIgnoreCase("text");
+        byte[] content = rawContent(part);
+        String encoding = ((MimePart) part).getEncoding();
+        string(response, contentType.getPrimaryType().toUpperCase());
+        append(response, " ");
+        string(response, contentType.getSubType().toUpperCase());
+        append(response, " ");
+        parameters(response, contentType.getParameterList());
+        append(response, " ");
+        string(response, ((MimePart) part).getContentID());
+        append(response, " ");
+        string(response, part.getDescription());
+        append(response, " ");
+        string(response, encoding == null ? "7BIT" : encoding.toUpperCase());
+        append(response, " " + content.length);
+        if (text) {
+            int lines = 0;
+            for (byte character : content) if (character == '\n') lines++;
+            append(response, " " + lines);
+        }
+        append(response, " NIL ");
+        if (part.getDisposition() == null) append(response, "NIL");
+        else {
+            append(response, "(");
+            string(response, part.getDisposition().toUpperCase());
+            append(response, " ");
+            parameters(response, part.getFileName() == null ? null : parameterList("filename", part.getFileName()));
+            append(response, ")");
+        }
+        append(response, " NIL)");
+    }
+
+    private static ParameterList parameterList(String name, String value){
+        ParameterList parameters = new ParameterList();
+        parameters.set(name, value);
+        return parameters;
+    }
+
+    private void parameters(ByteArrayOutputStream response, ParameterList parameters) throws IOException {
+        if (parameters == null || parameters.size() == 0) {
+            append(response, "NIL");
+            return;
+        }
+        append(response, "(");
+        Enumeration<String> names = parameters.getNames();
+        boolean first = true;
+        while (names.hasMoreElements()) {
+            String name = names.nextElement();
+            if (!first) append(response, " ");
+            first = false;
+            string(response, name.toUpperCase());
+            append(response, " ");
+            string(response, parameters.get(name));
+        }
+        append(response, ")");
+    }
+
+    /**
+     * Resolves a message set into view indexes
+     */
+    private List<Integer> resolve(String set, boolean uid){
+        List<Integer> indexes = new ArrayList<>();
+        if (view.isEmpty()) return indexes;
+        long last = uid ? view.get(view.size() - 1).uid() : view.size();
+        for (String range : set.split(",")) {
+            String[] bounds = range.split(":");
+            long start = bounds[0].equals("*") ? last : Long.parseLong(bounds[0]);
+            long end = bounds.length == 1 ? start : bounds[1].equals("*") ? last : Long.parseLong(bounds[1]);
+            long low = Math.min(start, end);
+            long high = Math.max(start, end);
+            for (int index = 0; index < view.size(); index++) {
+                long key = uid ? view.get(index).uid() : index + 1;
+                if (key >= low && key <= high && !indexes.contains(index)) indexes.add(index);
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Splits fetch items, keeping bracketed sections & partial ranges together
+     */
+    private static List<String> fetchItems(String items){
+        if (items.startsWith("(") && items.endsWith(")")) items = items.substring(1, items.length() - 1);
+        switch (items.toUpperCase()) {
+            case "ALL" -> {return new ArrayList<>(List.of("FLAGS", "INTERNALDATE", "RFC822.SIZE", "ENVELOPE"));}
+            case "FAST" -> {return new ArrayList<>(List.of("FLAGS", "INTERNALDATE", "RFC822.SIZE"));}
+            case "FULL" -> {return new ArrayList<>(List.of("FLAGS", "INTERNALDATE", "RFC822.SIZE", "ENVELOPE", "BODY"));}
+        }
+        List<String> result = new ArrayList<>();
+        StringBuilder item = new StringBuilder();
+        int depth = 0;
+        for (char character : items.toCharArray()) {
+            if (character == '[' || character == '(') depth++;
+            if (character == ']' || character == ')') depth--;
+            if (character == ' ' && depth == 0) {
+                if (item.length() > 0) result.add(item.toString());
+                item.setLength(0);
+            }
+            else item.append(character);
+        }
+        if (item.length() > 0) result.add(item.toString());
+        return result;
+    }
+
+    private static String argumentsOf(String line, int skippedTokens){
+        int position = 0;
+        for (int token = 0; token < skippedTokens; token++) {
+            int space = line.indexOf(' ', position);
+            if (space < 0) return "";
+            position = space + 1;
+        }
+        return line.substring(position);
+    }
+
+    /**
+     * Splits a command into atoms & quoted strings (parenthesized lists are split into their atoms)
+     */
+    private static List<String> tokenize(String line){
+        List<String> tokens = new ArrayList<>();
+        for (int index = 0; index < line.length(); index++) {
+            char character = line.charAt(index);
+            if (character == ' ') continue;
+            StringBuilder token = new StringBuilder();
+            if (character == '"') {
+                for (index++; index < line.length() && line.charAt(index) != '"'; index++) {
+                    if (line.charAt(index) == '\\') index++;
+                    token.append(line.charAt(index));
+                }
+            }
+            else for (; index < line.length() && line.charAt(index) != ' '; index++) token.append(line.charAt(index));
+            tokens.add(token.toString());
+        }
+        return tokens;
+    }
+
+    /**
+     * Reads a command, literals are inlined as quoted strings
+     */
+    private String readCommand() throws IOException {
+        String line = readLine();
+        if (line == null) return null;
+        StringBuilder command = new StringBuilder();
+        while (line != null && line.endsWith("}") && line.lastIndexOf('{') >= 0) {
+            String size = line.substring(line.lastIndexOf('{') + 1, line.length() - 1);
+            boolean synchronizing = !size.endsWith("+");
+            if (!synchronizing) size = size.substring(0, size.length() - 1);
+            if (synchronizing) write("+ Ready");
+            byte[] literal = input.readNBytes(Integer.parseInt(size));
+            command.append(line, 0, line.lastIndexOf('{'))
+                    .append('"')
+                    .append(new String(literal, StandardCharsets.UTF_8).replace("\\", "\\\\").replace("\"", "\\\""))
+                    .append('"');
+            line = readLine();
+        }
+        return command.append(line == null ? "" : line).toString();
+    }
+
+    private String readLine() throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        for (int character = input.read(); character != -1; character = input.read()) {
+            if (character == '\n') {
+                byte[] bytes = line.toByteArray();
+                int length = bytes.length > 0 && bytes[bytes.length - 1] == '\r' ? bytes.length - 1 : bytes.length;
+                return new String(bytes, 0, length, StandardCharsets.ISO_8859_1);
+            }
+            line.write(character);
+        }
+        return null;
+    }
+
+    private synchronized void write(String line) throws IOException {
+        output.write((line + "\r\n").getBytes(StandardCharsets.ISO_8859_1));
+        output.flush();
+    }
+
+    private static void append(ByteArrayOutputStream response, String text){
+        response.writeBytes(text.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private static void literalItem(ByteArrayOutputStream response, String label, byte[] content){
+        append(response, label + " {" + content.length + "}\r\n");
+        response.writeBytes(content);
+    }
+
+    /**
+     * Appends a string as NIL, a quoted string or a literal (for line breaks & non-ascii characters)
+     */
+    private static void string(ByteArrayOutputStream response, String value){
+        if (value == null) {
+            append(response, "NIL");
+            return;
+        }
+        boolean quotable = value.chars().allMatch(character -> character >= 0x20 && character < 0x7F);
+        if (quotable) append(response, "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"");
+        else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            append(response, "{" + bytes.length + "}\r\n");
+            response.writeBytes(bytes);
+        }
+    }
+}